@@ -9,9 +9,11 @@
 
 package com.salesforce.vador.matchers
 
+import java.util.EnumSet
 import org.hamcrest.Matcher
 import org.hamcrest.Matchers.anyOf
 import org.hamcrest.Matchers.`is`
+import org.hamcrest.collection.IsIn
 import org.hamcrest.core.AnyOf
 import org.hamcrest.core.IsNull
 
@@ -21,3 +23,61 @@ fun <T> anyOf(vararg ts: T): AnyOf<T> = anyOf(ts.map { `is`(it) })
 
 @SafeVarargs
 fun <T> anyOfOrNull(vararg matchers: Matcher<T>): AnyOf<T> = anyOf(matchers.toList() + IsNull())
+
+/**
+ * Same as [anyOf] with values, except values are looked up in a set instead of matched one after
+ * the other, so a matcher for hundreds of values, like a picklist, costs about the same as for one.
+ * Enums are kept in an `EnumSet` and ints and longs in a sorted array. `null` can be one of the
+ * values. It's a hamcrest `IsIn`, which specs on the same `when` getter look their results up for.
+ */
+@SafeVarargs fun <T> anyOfValues(vararg values: T): Matcher<T> = anyOfValues(values.asList())
+
+/** Same as [anyOfValues] with varargs. */
+@Suppress("UNCHECKED_CAST")
+fun <T> anyOfValues(values: Collection<T>): Matcher<T> =
+  IsIn(
+    when {
+      values.isEmpty() -> LookupCollection(values) { false }
+      values.all { it is Int } -> {
+        val sorted = (values as Collection<Int>).distinct().sorted().toIntArray()
+        LookupCollection(sorted.asList() as Collection<T>) {
+          it is Int && sorted.binarySearch(it) >= 0
+        }
+      }
+      values.all { it is Long } -> {
+        val sorted = (values as Collection<Long>).distinct().sorted().toLongArray()
+        LookupCollection(sorted.asList() as Collection<T>) {
+          it is Long && sorted.binarySearch(it) >= 0
+        }
+      }
+      values.all { it is Enum<*> } &&
+        values.map { enumTypeOf(it as Enum<*>) }.distinct().size == 1 -> {
+        // `EnumSet` takes its type from the values, at runtime.
+        val set = EnumSet.copyOf(values as Collection<Nothing>)
+        LookupCollection(values) { set.contains(it) }
+      }
+      else -> {
+        val set = HashSet<T>(values)
+        LookupCollection(values) { set.contains(it) }
+      }
+    }
+  )
+
+private fun enumTypeOf(value: Enum<*>): Class<*> =
+  value.javaClass.let { if (it.isEnum) it else it.superclass }
+
+/**
+ * Values of an [anyOfValues] matcher, looked up with `contains`, which is all `IsIn` calls to
+ * match, and listed in their given order to describe the matcher.
+ */
+private class LookupCollection<T>(
+  private val values: Collection<T>,
+  private val lookup: (Any?) -> Boolean
+) : AbstractCollection<T>() {
+  override val size: Int
+    get() = values.size
+
+  override fun contains(element: T): Boolean = lookup(element)
+
+  override fun iterator(): Iterator<T> = values.iterator()
+}
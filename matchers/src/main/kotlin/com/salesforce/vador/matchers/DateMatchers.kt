@@ -10,52 +10,262 @@
 package com.salesforce.vador.matchers
 
 import io.vavr.Function2
+import java.time.Instant
 import java.time.LocalDate
-import java.time.format.DateTimeFormatter
+import java.time.LocalDateTime
+import java.time.Month
+import java.time.OffsetDateTime
+import java.time.Year
+import java.time.ZonedDateTime
 import java.util.Date
+import kotlin.math.sign
 import org.hamcrest.Description
 import org.hamcrest.Matcher
 import org.hamcrest.TypeSafeMatcher
 
+/**
+ * Dates can be `Date`s, `Instant`s, `OffsetDateTime`s, `ZonedDateTime`s or epoch millis as `Long`s,
+ * compared with each other by the instant they stand for, or both `LocalDate`s or both
+ * `LocalDateTime`s. Other dates aren't on or before any date.
+ */
 val isOnOrBeforeIfBothArePresent = Function2 { date1: Any?, date2: Any? ->
   when {
     date1 == null || date2 == null -> true
-    date1 !is Date || date2 !is Date -> false
-    else -> date1 == date2 || date1.before(date2)
+    else -> compareDates(date1, date2).let { it != INCOMPARABLE && it <= 0 }
   }
 }
 
+/** Same as [isOnOrBeforeIfBothArePresent] for the dates it compares. */
 val isBeforeIfBothArePresent = Function2 { date1: Any?, date2: Any? ->
   when {
     date1 == null && date2 == null -> true
-    date1 !is Date || date2 !is Date -> false
-    else -> date1.before(date2)
+    date1 == null || date2 == null -> false
+    else -> compareDates(date1, date2).let { it != INCOMPARABLE && it < 0 }
   }
 }
 
+/**
+ * The date can be a `Date`, in the default time zone, or a `LocalDate`, `LocalDateTime`,
+ * `OffsetDateTime` or `ZonedDateTime`, in its own.
+ */
 @Suppress("DEPRECATION")
 val isEqualToDayOfDate = Function2 { day: Any?, date: Any? ->
   when {
-    day == null && date == null -> false
-    day !is Int || date !is Date -> false
-    else -> day == date.date
+    day !is Int -> false
+    date is Date -> day == date.date
+    date is LocalDate -> day == date.dayOfMonth
+    date is LocalDateTime -> day == date.dayOfMonth
+    date is OffsetDateTime -> day == date.dayOfMonth
+    date is ZonedDateTime -> day == date.dayOfMonth
+    else -> false
   }
 }
 
+private const val INCOMPARABLE = Int.MIN_VALUE
+
+/**
+ * Compares dates as they are, without converting them to a common type. Instants are compared by
+ * their epoch second and then nano of that second.
+ *
+ * @return Sign of the comparison, or [INCOMPARABLE].
+ */
+private fun compareDates(date1: Any, date2: Any): Int =
+  when {
+    date1 is LocalDate && date2 is LocalDate -> date1.compareTo(date2).sign
+    date1 is LocalDateTime && date2 is LocalDateTime -> date1.compareTo(date2).sign
+    isInstant(date1) && isInstant(date2) -> {
+      val bySecond = epochSecondOf(date1).compareTo(epochSecondOf(date2))
+      if (bySecond != 0) bySecond.sign else nanoOf(date1).compareTo(nanoOf(date2)).sign
+    }
+    else -> INCOMPARABLE
+  }
+
+private fun isInstant(date: Any): Boolean =
+  date is Date || date is Instant || date is OffsetDateTime || date is ZonedDateTime || date is Long
+
+private fun epochSecondOf(instant: Any): Long =
+  when (instant) {
+    is Date -> instant.time.floorDiv(MILLIS_PER_SECOND)
+    is Instant -> instant.epochSecond
+    is OffsetDateTime -> instant.toEpochSecond()
+    is ZonedDateTime -> instant.toEpochSecond()
+    else -> (instant as Long).floorDiv(MILLIS_PER_SECOND)
+  }
+
+private fun nanoOf(instant: Any): Int =
+  when (instant) {
+    is Date -> instant.time.mod(MILLIS_PER_SECOND).toInt() * NANOS_PER_MILLI
+    is Instant -> instant.nano
+    is OffsetDateTime -> instant.nano
+    is ZonedDateTime -> instant.nano
+    else -> (instant as Long).mod(MILLIS_PER_SECOND).toInt() * NANOS_PER_MILLI
+  }
+
+private const val MILLIS_PER_SECOND = 1000L
+
+private const val NANOS_PER_MILLI = 1_000_000
+
 @get:JvmName("ISO8601DateFormat")
 val ISO8601DateFormat: Matcher<Any?> =
+  isoFormat("ISO 8601 format") { text, start, end -> scanDate(text, start, end) }
+
+/** Same as [ISO8601DateFormat], for a date and time without offset, like `2021-07-30T10:15:30`. */
+@get:JvmName("ISO8601DateTimeFormat")
+val ISO8601DateTimeFormat: Matcher<Any?> =
+  isoFormat("ISO 8601 date-time format") { text, start, end -> scanDateTime(text, start, end) }
+
+/** Same as [ISO8601DateFormat], for a date and time with an offset, like `2021-07-30T10:15:30Z`. */
+@get:JvmName("ISO8601OffsetDateTimeFormat")
+val ISO8601OffsetDateTimeFormat: Matcher<Any?> =
+  isoFormat("ISO 8601 offset date-time format") { text, start, end ->
+    scanOffsetDateTime(text, start, end)
+  }
+
+private const val NO_MATCH = -1
+
+/** Scans `text` from `start`, up to `end`, and returns where the match ends, or [NO_MATCH]. */
+private fun interface Scanner {
+  fun scan(text: String, start: Int, end: Int): Int
+}
+
+/**
+ * Matches strings that, less surrounding whitespace, `scanner` consumes whole. Strings are scanned
+ * as `DateTimeFormatter.ISO_*` would parse them, but without parsing, so that an invalid string
+ * costs neither allocations nor an exception.
+ */
+private fun isoFormat(name: String, scanner: Scanner): Matcher<Any?> =
   object : TypeSafeMatcher<Any?>() {
 
     override fun describeTo(description: Description?) {
-      description?.appendText("ISO 8601 format")
+      description?.appendText(name)
     }
 
-    override fun matchesSafely(date: Any?): Boolean =
-      date is String && isValidIS0LocalDateFormat(date)
+    override fun matchesSafely(date: Any?): Boolean {
+      if (date !is String) {
+        return false
+      }
+      var start = 0
+      var end = date.length
+      while (start < end && date[start] <= ' ') start++
+      while (end > start && date[end - 1] <= ' ') end--
+      return scanner.scan(date, start, end) == end
+    }
   }
 
-private fun isValidIS0LocalDateFormat(dateAsString: String): Boolean =
-  runCatching { parseStringToISOLocalDate(dateAsString) }.isSuccess
+/** `ISO_LOCAL_DATE`, as in `yyyy-MM-dd`, with a sign for years beyond 4 digits. */
+private fun scanDate(text: String, start: Int, end: Int): Int {
+  var index = start
+  val sign = if (index < end && (text[index] == '+' || text[index] == '-')) text[index++] else ' '
+  val yearStart = index
+  var year = 0L
+  while (index < end && index - yearStart < 10 && isDigit(text[index])) {
+    year = year * 10 + (text[index++] - '0')
+  }
+  val yearDigits = index - yearStart
+  val isYearWidthValid =
+    when (sign) {
+      '+' -> yearDigits > 4
+      '-' -> yearDigits >= 4
+      else -> yearDigits == 4
+    }
+  val isYearValid = isYearWidthValid && !(sign == '-' && year == 0L) && year <= Year.MAX_VALUE
+  if (!isYearValid || !isChar(text, index, end, '-')) {
+    return NO_MATCH
+  }
+  val month = twoDigits(text, index + 1, end)
+  if (month !in 1..12 || !isChar(text, index + 3, end, '-')) {
+    return NO_MATCH
+  }
+  val isLeap = Year.isLeap(if (sign == '-') -year else year)
+  val day = twoDigits(text, index + 4, end)
+  return if (day in 1..Month.of(month).length(isLeap)) index + 6 else NO_MATCH
+}
 
-private fun parseStringToISOLocalDate(date: String): LocalDate =
-  LocalDate.parse(date.trim(), DateTimeFormatter.ISO_LOCAL_DATE)
+/** `ISO_LOCAL_TIME`, as in `HH:mm`, with optional seconds and a fraction of up to 9 digits. */
+private fun scanTime(text: String, start: Int, end: Int): Int {
+  if (twoDigits(text, start, end) !in 0..23 || !isChar(text, start + 2, end, ':')) {
+    return NO_MATCH
+  }
+  if (twoDigits(text, start + 3, end) !in 0..59) {
+    return NO_MATCH
+  }
+  var index = start + 5
+  if (!isChar(text, index, end, ':')) {
+    return index
+  }
+  if (twoDigits(text, index + 1, end) !in 0..59) {
+    return NO_MATCH
+  }
+  index += 3
+  if (!isChar(text, index, end, '.')) {
+    return index
+  }
+  val fractionStart = ++index
+  while (index < end && index - fractionStart < 9 && isDigit(text[index])) index++
+  return index
+}
+
+/** `ISO_LOCAL_DATE_TIME`, a date and a time separated by `T`. */
+private fun scanDateTime(text: String, start: Int, end: Int): Int {
+  val dateEnd = scanDate(text, start, end)
+  return if (dateEnd != NO_MATCH && isCharIgnoringCase(text, dateEnd, end, 'T')) {
+    scanTime(text, dateEnd + 1, end)
+  } else {
+    NO_MATCH
+  }
+}
+
+/**
+ * `ISO_OFFSET_DATE_TIME`, a date-time followed by `Z` or an offset like `+05`, `+05:30` or
+ * `+05:30:15`, up to 18 hours.
+ */
+private fun scanOffsetDateTime(text: String, start: Int, end: Int): Int {
+  val index = scanDateTime(text, start, end)
+  if (index == NO_MATCH) {
+    return NO_MATCH
+  }
+  if (isCharIgnoringCase(text, index, end, 'Z')) {
+    return index + 1
+  }
+  if (!isChar(text, index, end, '+') && !isChar(text, index, end, '-')) {
+    return NO_MATCH
+  }
+  val hours = twoDigits(text, index + 1, end)
+  if (hours !in 0..18) {
+    return NO_MATCH
+  }
+  if (!isChar(text, index + 3, end, ':')) {
+    return index + 3
+  }
+  val minutes = twoDigits(text, index + 4, end)
+  if (minutes !in 0..59) {
+    return NO_MATCH
+  }
+  var offsetEnd = index + 6
+  var seconds = 0
+  if (isChar(text, offsetEnd, end, ':')) {
+    seconds = twoDigits(text, offsetEnd + 1, end)
+    if (seconds !in 0..59) {
+      return NO_MATCH
+    }
+    offsetEnd += 3
+  }
+  return if (hours < 18 || minutes == 0 && seconds == 0) offsetEnd else NO_MATCH
+}
+
+private fun isDigit(char: Char): Boolean = char in '0'..'9'
+
+private fun isChar(text: String, index: Int, end: Int, char: Char): Boolean =
+  index < end && text[index] == char
+
+/** Same as [isChar], as `DateTimeFormatter.ISO_*` parse letters, like `T` and `Z`. */
+private fun isCharIgnoringCase(text: String, index: Int, end: Int, char: Char): Boolean =
+  index < end && text[index].uppercaseChar() == char
+
+/** @return Value of the two digits at `index`, or `-1` if there aren't two digits there. */
+private fun twoDigits(text: String, index: Int, end: Int): Int =
+  if (index + 1 < end && isDigit(text[index]) && isDigit(text[index + 1])) {
+    (text[index] - '0') * 10 + (text[index + 1] - '0')
+  } else {
+    -1
+  }
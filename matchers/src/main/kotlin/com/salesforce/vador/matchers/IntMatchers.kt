@@ -10,9 +10,6 @@
 package com.salesforce.vador.matchers
 
 import org.hamcrest.Matcher
-import org.hamcrest.Matchers.allOf
-import org.hamcrest.Matchers.greaterThanOrEqualTo
-import org.hamcrest.Matchers.lessThanOrEqualTo
 
-fun inRangeInclusive(start: Int, end: Int): Matcher<Int> =
-  allOf(greaterThanOrEqualTo(start), lessThanOrEqualTo(end))
+/** Same as [between], which also checks `int`s without boxing them. */
+fun inRangeInclusive(start: Int, end: Int): Matcher<Int> = between(start, end)
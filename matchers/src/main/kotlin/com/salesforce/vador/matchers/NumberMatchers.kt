@@ -0,0 +1,118 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("NumberMatchers")
+
+package com.salesforce.vador.matchers
+
+import java.math.BigDecimal
+import java.util.function.DoublePredicate
+import java.util.function.IntPredicate
+import java.util.function.LongPredicate
+import org.hamcrest.BaseMatcher
+import org.hamcrest.Description
+import org.hamcrest.Matcher
+import org.hamcrest.TypeSafeMatcher
+
+/** Matches ints from `start` to `end`, both inclusive. */
+fun between(start: Int, end: Int): IntRangeMatcher = IntRangeMatcher(start, end)
+
+fun atLeast(min: Int): IntRangeMatcher = IntRangeMatcher(min, Int.MAX_VALUE)
+
+fun atMost(max: Int): IntRangeMatcher = IntRangeMatcher(Int.MIN_VALUE, max)
+
+/** Matches longs from `start` to `end`, both inclusive. */
+fun between(start: Long, end: Long): LongRangeMatcher = LongRangeMatcher(start, end)
+
+fun atLeast(min: Long): LongRangeMatcher = LongRangeMatcher(min, Long.MAX_VALUE)
+
+fun atMost(max: Long): LongRangeMatcher = LongRangeMatcher(Long.MIN_VALUE, max)
+
+/** Matches doubles from `start` to `end`, both inclusive. `NaN` is never matched. */
+fun between(start: Double, end: Double): DoubleRangeMatcher = DoubleRangeMatcher(start, end)
+
+fun atLeast(min: Double): DoubleRangeMatcher = DoubleRangeMatcher(min, Double.POSITIVE_INFINITY)
+
+fun atMost(max: Double): DoubleRangeMatcher = DoubleRangeMatcher(Double.NEGATIVE_INFINITY, max)
+
+/**
+ * Matches decimals from `start` to `end`, both inclusive, compared by value, so `1.0` and `1.00`
+ * are the same.
+ */
+fun between(start: BigDecimal, end: BigDecimal): Matcher<BigDecimal> =
+  object : TypeSafeMatcher<BigDecimal>() {
+    override fun matchesSafely(value: BigDecimal): Boolean = value >= start && value <= end
+
+    override fun describeTo(description: Description) {
+      description.appendText("a decimal from ").appendValue(start).appendText(" to ")
+      description.appendValue(end)
+    }
+  }
+
+/**
+ * Matches decimals that fit a column of `precision` digits, `scale` of them after the point, like
+ * `NUMBER(precision, scale)` of a database or a currency field. Trailing zeros after the point
+ * don't count, so `1.50` fits a scale of 1.
+ */
+fun fitsPrecisionAndScale(precision: Int, scale: Int): Matcher<BigDecimal> {
+  require(scale in 0..precision) { "Scale $scale should be from 0 to precision $precision" }
+  return object : TypeSafeMatcher<BigDecimal>() {
+    // Zero has a precision of 1 even without digits before the point, yet fits any column.
+    override fun matchesSafely(value: BigDecimal): Boolean =
+      value.signum() == 0 ||
+        fitsScale(value) && value.precision() - value.scale() <= precision - scale
+
+    // Trailing zeros are stripped only when the scale is too large, as that allocates.
+    private fun fitsScale(value: BigDecimal): Boolean =
+      value.scale() <= scale || value.stripTrailingZeros().scale() <= scale
+
+    override fun describeTo(description: Description) {
+      description.appendText("a decimal with at most ").appendValue(precision - scale)
+      description.appendText(" digits before the point and ").appendValue(scale)
+      description.appendText(" after")
+    }
+  }
+}
+
+/**
+ * Matcher of an int range, which can also check an `int` as an [IntPredicate] without boxing it,
+ * for instance as a `FieldConfig.withFieldValidator` through `range::test`.
+ */
+class IntRangeMatcher internal constructor(val start: Int, val end: Int) :
+  BaseMatcher<Int>(), IntPredicate {
+  override fun test(value: Int): Boolean = value in start..end
+
+  override fun matches(actual: Any?): Boolean = actual is Int && test(actual)
+
+  override fun describeTo(description: Description) {
+    description.appendText("an int from ").appendValue(start).appendText(" to ").appendValue(end)
+  }
+}
+
+/** Same as [IntRangeMatcher], for longs. */
+class LongRangeMatcher internal constructor(val start: Long, val end: Long) :
+  BaseMatcher<Long>(), LongPredicate {
+  override fun test(value: Long): Boolean = value in start..end
+
+  override fun matches(actual: Any?): Boolean = actual is Long && test(actual)
+
+  override fun describeTo(description: Description) {
+    description.appendText("a long from ").appendValue(start).appendText(" to ").appendValue(end)
+  }
+}
+
+/** Same as [IntRangeMatcher], for doubles. */
+class DoubleRangeMatcher internal constructor(val start: Double, val end: Double) :
+  BaseMatcher<Double>(), DoublePredicate {
+  override fun test(value: Double): Boolean = value >= start && value <= end
+
+  override fun matches(actual: Any?): Boolean = actual is Double && test(actual)
+
+  override fun describeTo(description: Description) {
+    description.appendText("a double from ").appendValue(start).appendText(" to ").appendValue(end)
+  }
+}
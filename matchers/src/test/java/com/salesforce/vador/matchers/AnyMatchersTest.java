@@ -10,6 +10,12 @@ package com.salesforce.vador.matchers;
 import static com.salesforce.vador.matchers.IntMatchers.inRangeInclusive;
 import static org.hamcrest.Matchers.lessThan;
 
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.StringDescription;
+import org.hamcrest.collection.IsIn;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +32,32 @@ class AnyMatchersTest {
   void anyOfMatchersTest() {
     Assertions.assertTrue(AnyMatchers.anyOf(inRangeInclusive(1, 31), lessThan(10)).matches(0));
   }
+
+  @Test
+  void anyOfValuesMatchersTest() {
+    final var picklist =
+        IntStream.range(0, 300).mapToObj(index -> "value" + index).collect(Collectors.toList());
+    Assertions.assertTrue(AnyMatchers.anyOfValues(picklist).matches("value299"));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(picklist).matches("value300"));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(picklist).matches(null));
+    Assertions.assertTrue(AnyMatchers.anyOfValues("a", null).matches(null));
+
+    Assertions.assertTrue(
+        AnyMatchers.anyOfValues(DayOfWeek.MONDAY, DayOfWeek.FRIDAY).matches(DayOfWeek.FRIDAY));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(DayOfWeek.MONDAY).matches(DayOfWeek.SUNDAY));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(DayOfWeek.MONDAY).matches("MONDAY"));
+
+    Assertions.assertTrue(AnyMatchers.anyOfValues(31, 1, 15).matches(15));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(31, 1, 15).matches(2));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(31, 1, 15).matches(15L));
+    Assertions.assertTrue(AnyMatchers.anyOfValues(3L, 2L).matches(2L));
+    Assertions.assertFalse(AnyMatchers.anyOfValues(3L, 2L).matches(2));
+
+    Assertions.assertFalse(AnyMatchers.anyOfValues(List.of()).matches(null));
+
+    // An `IsIn`, so that specs can look up its results, described in the order values are given.
+    Assertions.assertTrue(AnyMatchers.anyOfValues(picklist) instanceof IsIn);
+    Assertions.assertEquals(
+        "one of {\"b\", \"a\"}", StringDescription.toString(AnyMatchers.anyOfValues("b", "a")));
+  }
 }
@@ -11,7 +11,14 @@ import io.kotest.core.spec.style.StringSpec
 import io.kotest.data.forAll
 import io.kotest.data.row
 import io.kotest.matchers.shouldBe
+import java.time.Instant
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.OffsetDateTime
+import java.time.ZoneOffset
+import java.time.format.DateTimeFormatter
 import java.util.Calendar
+import java.util.Date
 import java.util.GregorianCalendar
 
 class DateMatchersTest :
@@ -32,6 +39,78 @@ class DateMatchersTest :
       ISO8601DateFormat.matches("2019-02-05T21:22:41.000Z") shouldBe false
     }
 
+    "java.time dates relate without converting them" {
+      val instant = Instant.parse("2021-02-01T10:15:30.000000001Z")
+      forAll(
+        row(LocalDate.of(2021, 2, 1), LocalDate.of(2021, 2, 1), true, false),
+        row(LocalDate.of(2021, 1, 31), LocalDate.of(2021, 2, 1), true, true),
+        row(LocalDateTime.of(2021, 2, 1, 10, 0), LocalDateTime.of(2021, 2, 1, 9, 0), false, false),
+        row(instant.minusNanos(1), instant, true, true),
+        row(instant.minusNanos(1).toEpochMilli(), instant, true, true),
+        row(Date.from(instant.minusNanos(1)), instant, true, true),
+        row(instant.atOffset(ZoneOffset.ofHours(5)), instant, true, false),
+        row(instant.atZone(ZoneOffset.UTC), instant.minusSeconds(1).toEpochMilli(), false, false),
+        row(LocalDate.of(2021, 1, 31), Date.from(instant), false, false),
+        row(LocalDate.of(2021, 1, 31), null, true, false)
+      ) { date1, date2, isOnOrBefore, isBefore ->
+        isOnOrBeforeIfBothArePresent.apply(date1, date2) shouldBe isOnOrBefore
+        isBeforeIfBothArePresent.apply(date1, date2) shouldBe isBefore
+      }
+    }
+
+    "is java.time date's day matching" {
+      forAll(
+        row(1, LocalDate.of(2021, 2, 1), true),
+        row(2, LocalDate.of(2021, 2, 1), false),
+        row(1, LocalDateTime.of(2021, 2, 1, 10, 0), true),
+        row(1, OffsetDateTime.of(2021, 2, 1, 23, 0, 0, 0, ZoneOffset.ofHours(-5)), true),
+        row(1, Instant.parse("2021-02-01T10:15:30Z"), false)
+      ) { day, date, result ->
+        isEqualToDayOfDate.apply(day, date) shouldBe result
+      }
+    }
+
+    "ISO8601 formats match as java.time parses" {
+      val dates =
+        listOf(
+          "2021-07-30",
+          " 2021-07-30 ",
+          "2020-02-29",
+          "2021-02-29",
+          "1900-02-29",
+          "2000-02-29",
+          "2021-04-31",
+          "2021-13-01",
+          "2021-00-10",
+          "2021-7-30",
+          "21-07-30",
+          "+12021-07-30",
+          "-2021-07-30",
+          "-0000-07-30",
+          "2021-07-30x",
+          "2021/07/30",
+          ""
+        )
+      val times =
+        listOf("", "T10:15", "T10:15:30", "t23:59:59.123456789", "T10:15:30.", "T24:00", "T10:60")
+      val offsets = listOf("", "Z", "z", "+05:30", "-18:00", "+18:30", "+05", "+05:30:15")
+      for (date in dates) {
+        ISO8601DateFormat.matches(date) shouldBe isParsed(date, DateTimeFormatter.ISO_LOCAL_DATE)
+        for (time in times) {
+          val dateTime = date.trim() + time
+          ISO8601DateTimeFormat.matches(dateTime) shouldBe
+            isParsed(dateTime, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+          for (offset in offsets) {
+            val offsetDateTime = dateTime + offset
+            ISO8601OffsetDateTimeFormat.matches(offsetDateTime) shouldBe
+              isParsed(offsetDateTime, DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+          }
+        }
+      }
+      ISO8601DateFormat.matches(null) shouldBe false
+      ISO8601DateFormat.matches(20210730) shouldBe false
+    }
+
     "Is On Or Before If Both Are Present" {
       forAll(
         row(null, null, true),
@@ -58,3 +137,6 @@ class DateMatchersTest :
       }
     }
   })
+
+private fun isParsed(text: String, formatter: DateTimeFormatter): Boolean =
+  runCatching { formatter.parse(text.trim()) }.isSuccess
@@ -0,0 +1,70 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.matchers
+
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.data.forAll
+import io.kotest.data.row
+import io.kotest.matchers.shouldBe
+import java.math.BigDecimal
+
+class NumberMatchersTest :
+  StringSpec({
+    "Int range" {
+      between(1, 31).test(31) shouldBe true
+      between(1, 31).test(32) shouldBe false
+      between(1, 31).matches(1) shouldBe true
+      between(1, 31).matches(1L) shouldBe false
+      between(1, 31).matches(null) shouldBe false
+      atLeast(0).test(Int.MAX_VALUE) shouldBe true
+      atMost(0).test(1) shouldBe false
+    }
+
+    "Long and Double range" {
+      between(1L, 31L).test(31L) shouldBe true
+      between(1L, 31L).matches(0L) shouldBe false
+      atLeast(0.5).test(0.5) shouldBe true
+      atMost(0.5).test(Double.NaN) shouldBe false
+      between(0.0, 1.0).matches(1) shouldBe false
+    }
+
+    "BigDecimal range" {
+      between(BigDecimal("1.0"), BigDecimal("2")).matches(BigDecimal("1.00")) shouldBe true
+      between(BigDecimal("1.0"), BigDecimal("2")).matches(BigDecimal("2.01")) shouldBe false
+    }
+
+    "Fits precision and scale" {
+      forAll(
+        row("999.99", true),
+        row("-999.99", true),
+        row("1000", false),
+        row("1.50", true),
+        row("1.505", false),
+        row("0.05", true),
+        row("0", true),
+        row("0.00", true),
+        row("1E+3", false)
+      ) { decimal, result ->
+        fitsPrecisionAndScale(5, 2).matches(BigDecimal(decimal)) shouldBe result
+      }
+    }
+
+    "Fits precision and scale with no digits before the point" {
+      forAll(
+        row("0", true),
+        row("0.00", true),
+        row("0.000", true),
+        row("0.99", true),
+        row("-0.5", true),
+        row("0.999", false),
+        row("1", false)
+      ) { decimal, result ->
+        fitsPrecisionAndScale(2, 2).matches(BigDecimal(decimal)) shouldBe result
+      }
+    }
+  })
@@ -26,3 +26,5 @@ rootProject.name = "vador-root"
 include("matchers")
 
 include("vador")
+
+include("vador-benchmarks")
@@ -0,0 +1,28 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+plugins { alias(libs.plugins.jmh) }
+
+description = "JMH benchmarks for Vador. Not published."
+
+dependencies {
+  jmhImplementation(project(":vador"))
+  jmhImplementation(project(":matchers"))
+  jmhImplementation(libs.java.vavr)
+  jmhImplementation(libs.hamcrest.core)
+}
+
+jmh {
+  jmhVersion = libs.versions.jmh.get()
+  // * NOTE: Run a subset with `-Pjmh.includes=<regex>`, e.g., `-Pjmh.includes=VadorBatchBenchmark`
+  providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+  // `gc` reports allocation rate (`gc.alloc.rate.norm` is bytes per op) next to the timings
+  profilers = listOf("gc")
+  resultFormat = "JSON"
+  resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+  jvmArgs = listOf("-Xms2g", "-Xmx2g")
+}
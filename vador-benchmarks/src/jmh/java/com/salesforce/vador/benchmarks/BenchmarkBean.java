@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import java.util.Date;
+
+/** A flat bean with the field shapes Vador is usually configured against. */
+public final class BenchmarkBean {
+  private final int id;
+  private final String externalId;
+  private final String accountId;
+  private final Integer amount;
+  private final String status;
+  private final String billingTerm;
+  private final boolean compareDates;
+  private final Date startDate;
+  private final Date endDate;
+
+  public BenchmarkBean(
+      int id,
+      String externalId,
+      String accountId,
+      Integer amount,
+      String status,
+      String billingTerm,
+      boolean compareDates,
+      Date startDate,
+      Date endDate) {
+    this.id = id;
+    this.externalId = externalId;
+    this.accountId = accountId;
+    this.amount = amount;
+    this.status = status;
+    this.billingTerm = billingTerm;
+    this.compareDates = compareDates;
+    this.startDate = startDate;
+    this.endDate = endDate;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public String getExternalId() {
+    return externalId;
+  }
+
+  public String getAccountId() {
+    return accountId;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public String getBillingTerm() {
+    return billingTerm;
+  }
+
+  public boolean isCompareDates() {
+    return compareDates;
+  }
+
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  public Date getEndDate() {
+    return endDate;
+  }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.INVALID_AMOUNT;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NONE;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.UNKNOWN_EXCEPTION;
+
+import com.salesforce.vador.types.Validator;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/** Fixtures shared by the benchmarks. Fixed seeds, so runs are comparable. */
+final class BenchmarkBeans {
+  static final String ACCOUNT_KEY_PREFIX = "001";
+  private static final long DAY_IN_MILLIS = 24 * 60 * 60 * 1000L;
+  private static final String[] STATUSES = {"Draft", "Activated", "Cancelled"};
+  private static final String[] BILLING_TERMS = {"OneTime", "Monthly", "Annual"};
+
+  private BenchmarkBeans() {}
+
+  /**
+   * A batch of distinct beans, where `invalidPercent` of them, spread evenly, have a negative
+   * amount and fail only the last validator of {@link #validators(int)}.
+   */
+  static List<BenchmarkBean> batchOf(int size, int invalidPercent) {
+    final var invalidEvery = invalidPercent == 0 ? 0 : 100 / invalidPercent;
+    final var batch = new ArrayList<BenchmarkBean>(size);
+    for (var id = 0; id < size; id++) {
+      batch.add(beanOf(id, invalidEvery != 0 && id % invalidEvery == invalidEvery - 1));
+    }
+    return batch;
+  }
+
+  /**
+   * A batch of valid beans, where every `duplicateEvery`-th bean is the same as the previous one.
+   * With `duplicateEvery` = 0, there are no duplicates.
+   */
+  static List<BenchmarkBean> batchWithDuplicatesOf(int size, int duplicateEvery) {
+    final var batch = new ArrayList<BenchmarkBean>(size);
+    for (var id = 0; id < size; id++) {
+      final var isDuplicate = duplicateEvery != 0 && id % duplicateEvery == duplicateEvery - 1;
+      batch.add(isDuplicate ? batch.get(id - 1) : beanOf(id, false));
+    }
+    return batch;
+  }
+
+  static BenchmarkBean beanOf(int id, boolean invalid) {
+    final var startDate = new Date(id * DAY_IN_MILLIS);
+    return new BenchmarkBean(
+        id,
+        "ext-" + id,
+        accountIdOf(id),
+        invalid ? -1 : id,
+        STATUSES[id % STATUSES.length],
+        BILLING_TERMS[id % BILLING_TERMS.length],
+        true,
+        startDate,
+        new Date(startDate.getTime() + DAY_IN_MILLIS));
+  }
+
+  /** 18-char ID with the Account key prefix. */
+  static String accountIdOf(int id) {
+    return ACCOUNT_KEY_PREFIX + String.format("%015d", id);
+  }
+
+  /**
+   * `count` validators, all of which pass for a valid bean, so every validator runs per bean. Only
+   * the last one checks the amount, so invalid beans fail as late as possible.
+   */
+  static List<Validator<BenchmarkBean, BenchmarkFailure>> validators(int count) {
+    final var validators = new ArrayList<Validator<BenchmarkBean, BenchmarkFailure>>(count);
+    for (var index = 1; index < count; index++) {
+      final var minId = -index;
+      validators.add(
+          bean -> bean.getId() >= minId && bean.getExternalId() != null ? NONE : UNKNOWN_EXCEPTION);
+    }
+    validators.add(bean -> bean.getAmount() >= 0 ? NONE : INVALID_AMOUNT);
+    return validators;
+  }
+}
@@ -0,0 +1,19 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+public enum BenchmarkFailure {
+  NONE,
+  NULL_VALIDATABLE,
+  DUPLICATE_ITEM,
+  NULL_KEY,
+  INVALID_AMOUNT,
+  INVALID_ID,
+  INVALID_SPEC,
+  UNKNOWN_EXCEPTION
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.DUPLICATE_ITEM;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NONE;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NULL_KEY;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NULL_VALIDATABLE;
+
+import com.salesforce.vador.config.BatchValidationConfig;
+import com.salesforce.vador.config.FilterDuplicatesConfig;
+import com.salesforce.vador.execution.VadorBatch;
+import io.vavr.Function1;
+import io.vavr.Tuple;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Duplicate filtering with one or more `FilterDuplicatesConfig`s, ahead of a single validator. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FilterDuplicatesBenchmark {
+  private static final List<Function1<BenchmarkBean, ?>> KEYS =
+      List.of(BenchmarkBean::getExternalId, BenchmarkBean::getAccountId, BenchmarkBean::getId);
+
+  @Param({"100", "10000", "100000"})
+  public int batchSize;
+
+  @Param({"1", "3"})
+  public int filterDuplicatesConfigCount;
+
+  @Param({"0", "10"})
+  public int duplicateEvery;
+
+  private List<BenchmarkBean> batch;
+  private BatchValidationConfig<BenchmarkBean, BenchmarkFailure> batchValidationConfig;
+
+  @Setup
+  public void setup() {
+    batch = BenchmarkBeans.batchWithDuplicatesOf(batchSize, duplicateEvery);
+    final var configBuilder =
+        BatchValidationConfig.<BenchmarkBean, BenchmarkFailure>toValidate()
+            .withValidators(Tuple.of(BenchmarkBeans.validators(1), NONE));
+    for (final var key : KEYS.subList(0, filterDuplicatesConfigCount)) {
+      configBuilder.findAndFilterDuplicatesConfig(
+          FilterDuplicatesConfig.<BenchmarkBean, BenchmarkFailure>toValidate()
+              .findAndFilterDuplicatesWith(key)
+              .andFailDuplicatesWith(DUPLICATE_ITEM)
+              .andFailNullKeysWith(NULL_KEY));
+    }
+    batchValidationConfig = configBuilder.prepare();
+  }
+
+  @Benchmark
+  public List<Either<BenchmarkFailure, BenchmarkBean>> failFastForEach() {
+    return VadorBatch.validateAndFailFastForEach(batch, batchValidationConfig, NULL_VALIDATABLE);
+  }
+
+  @Benchmark
+  public Optional<BenchmarkFailure> failFastForAny() {
+    return VadorBatch.validateAndFailFastForAny(batch, batchValidationConfig, NULL_VALIDATABLE);
+  }
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import static com.salesforce.vador.benchmarks.BenchmarkBeans.ACCOUNT_KEY_PREFIX;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.INVALID_ID;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NULL_VALIDATABLE;
+
+import com.salesforce.vador.config.BatchValidationConfig;
+import com.salesforce.vador.config.IDConfig;
+import com.salesforce.vador.execution.VadorBatch;
+import io.vavr.Tuple;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** `IDConfig` validation over a batch, with a cheap ID validator so Vador's overhead dominates. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IDConfigBenchmark {
+
+  @Param({"100", "10000", "100000"})
+  public int batchSize;
+
+  private List<BenchmarkBean> batch;
+  private BatchValidationConfig<BenchmarkBean, BenchmarkFailure> batchValidationConfig;
+
+  @Setup
+  public void setup() {
+    batch = BenchmarkBeans.batchOf(batchSize, 0);
+    batchValidationConfig =
+        BatchValidationConfig.<BenchmarkBean, BenchmarkFailure>toValidate()
+            .withIdConfig(
+                IDConfig.<String, BenchmarkBean, BenchmarkFailure, String>toValidate()
+                    .withIdValidator(
+                        (id, keyPrefix) -> id.length() == 18 && id.startsWith(keyPrefix))
+                    .shouldHaveValidSFIdFormatOrFailWith(
+                        Tuple.of(BenchmarkBean::getAccountId, ACCOUNT_KEY_PREFIX), INVALID_ID))
+            .prepare();
+  }
+
+  @Benchmark
+  public List<Either<BenchmarkFailure, BenchmarkBean>> failFastForEach() {
+    return VadorBatch.validateAndFailFastForEach(batch, batchValidationConfig, NULL_VALIDATABLE);
+  }
+}
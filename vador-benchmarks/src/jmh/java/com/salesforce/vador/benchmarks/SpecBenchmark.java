@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.INVALID_SPEC;
+import static com.salesforce.vador.matchers.AnyMatchers.anyOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.salesforce.vador.config.ValidationConfig;
+import com.salesforce.vador.matchers.DateMatchers;
+import io.vavr.Tuple;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The predicate of each Spec type on a single bean, without the rest of the fail-fast pipeline. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpecBenchmark {
+  private static final String SPEC_1 = "spec1";
+  private static final String SPEC_2 = "spec2";
+  private static final String SPEC_2_RELATE_WITH = "spec2RelateWith";
+  private static final String SPEC_3 = "spec3";
+  private static final String SPEC_4 = "spec4";
+  private static final String SPEC_5 = "spec5";
+
+  private BenchmarkBean bean;
+  private Predicate<BenchmarkBean> spec1;
+  private Predicate<BenchmarkBean> spec2;
+  private Predicate<BenchmarkBean> spec2RelateWith;
+  private Predicate<BenchmarkBean> spec3;
+  private Predicate<BenchmarkBean> spec4;
+  private Predicate<BenchmarkBean> spec5;
+
+  @Setup
+  public void setup() {
+    bean = BenchmarkBeans.beanOf(1, false);
+    final var validationConfig =
+        ValidationConfig.<BenchmarkBean, BenchmarkFailure>toValidate()
+            .withSpec(
+                spec ->
+                    spec._1()
+                        .nameForTest(SPEC_1)
+                        .orFailWith(INVALID_SPEC)
+                        .given(BenchmarkBean::getStatus)
+                        .shouldMatch(anyOf("Draft", "Activated", "Cancelled")))
+            .withSpec(
+                spec ->
+                    spec._2()
+                        .nameForTest(SPEC_2)
+                        .orFailWith(INVALID_SPEC)
+                        .when(BenchmarkBean::getStatus)
+                        .matches(is("Activated"))
+                        .then(BenchmarkBean::getAmount)
+                        .shouldMatch(greaterThanOrEqualTo(0)))
+            .withSpec(
+                spec ->
+                    spec._2()
+                        .nameForTest(SPEC_2_RELATE_WITH)
+                        .orFailWith(INVALID_SPEC)
+                        .when(BenchmarkBean::getStatus)
+                        .then(BenchmarkBean::getBillingTerm)
+                        .shouldRelateWith(
+                            Map.of(
+                                "Draft", Set.of("OneTime", "Monthly", "Annual"),
+                                "Activated", Set.of("OneTime", "Monthly", "Annual"),
+                                "Cancelled", Set.of("OneTime", "Monthly", "Annual"))))
+            .withSpec(
+                spec ->
+                    spec._3()
+                        .nameForTest(SPEC_3)
+                        .orFailWith(INVALID_SPEC)
+                        .when(BenchmarkBean::isCompareDates)
+                        .matches(is(true))
+                        .thenField1(BenchmarkBean::getStartDate)
+                        .thenField2(BenchmarkBean::getEndDate)
+                        .shouldRelateWithFn(DateMatchers.isBeforeIfBothArePresent()))
+            .withSpec(
+                spec ->
+                    spec._4()
+                        .nameForTest(SPEC_4)
+                        .orFailWith(INVALID_SPEC)
+                        .whenTheseFieldsMatch(
+                            Map.of(
+                                BenchmarkBean::getStatus, notNullValue(),
+                                BenchmarkBean::getBillingTerm, notNullValue()))
+                        .thenThoseFieldsShouldMatch(
+                            Map.of(
+                                BenchmarkBean::getExternalId, notNullValue(),
+                                BenchmarkBean::getAccountId, notNullValue())))
+            .withSpec(
+                spec ->
+                    spec._5()
+                        .nameForTest(SPEC_5)
+                        .orFailWith(INVALID_SPEC)
+                        .whenAllTheseFieldsMatch(
+                            Tuple.of(
+                                List.of(BenchmarkBean::getStatus, BenchmarkBean::getBillingTerm),
+                                notNullValue()))
+                        .thenAllThoseFieldsShouldMatch(
+                            Tuple.of(
+                                List.of(BenchmarkBean::getExternalId, BenchmarkBean::getAccountId),
+                                notNullValue())))
+            .prepare();
+    spec1 = validationConfig.getPredicateOfSpecForTest(SPEC_1).orElseThrow();
+    spec2 = validationConfig.getPredicateOfSpecForTest(SPEC_2).orElseThrow();
+    spec2RelateWith = validationConfig.getPredicateOfSpecForTest(SPEC_2_RELATE_WITH).orElseThrow();
+    spec3 = validationConfig.getPredicateOfSpecForTest(SPEC_3).orElseThrow();
+    spec4 = validationConfig.getPredicateOfSpecForTest(SPEC_4).orElseThrow();
+    spec5 = validationConfig.getPredicateOfSpecForTest(SPEC_5).orElseThrow();
+  }
+
+  @Benchmark
+  public boolean spec1ShouldMatch() {
+    return spec1.test(bean);
+  }
+
+  @Benchmark
+  public boolean spec2ShouldMatch() {
+    return spec2.test(bean);
+  }
+
+  @Benchmark
+  public boolean spec2ShouldRelateWith() {
+    return spec2RelateWith.test(bean);
+  }
+
+  @Benchmark
+  public boolean spec3ShouldRelateWithFn() {
+    return spec3.test(bean);
+  }
+
+  @Benchmark
+  public boolean spec4() {
+    return spec4.test(bean);
+  }
+
+  @Benchmark
+  public boolean spec5() {
+    return spec5.test(bean);
+  }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NONE;
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NULL_VALIDATABLE;
+
+import com.salesforce.vador.config.BatchValidationConfig;
+import com.salesforce.vador.execution.VadorBatch;
+import com.salesforce.vador.types.Validator;
+import io.vavr.Tuple;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A batch through `VadorBatch`, sequential and in parallel. With `invalidPercent` = 0, for-any has
+ * to validate the whole batch, which is its worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VadorBatchBenchmark {
+
+  @Param({"100", "10000", "100000"})
+  public int batchSize;
+
+  @Param({"1", "10", "50"})
+  public int validatorCount;
+
+  @Param({"0", "10"})
+  public int invalidPercent;
+
+  private List<BenchmarkBean> batch;
+  private List<Validator<BenchmarkBean, BenchmarkFailure>> validators;
+  private BatchValidationConfig<BenchmarkBean, BenchmarkFailure> batchValidationConfig;
+
+  @Setup
+  public void setup() {
+    batch = BenchmarkBeans.batchOf(batchSize, invalidPercent);
+    validators = BenchmarkBeans.validators(validatorCount);
+    batchValidationConfig =
+        BatchValidationConfig.<BenchmarkBean, BenchmarkFailure>toValidate()
+            .withValidators(Tuple.of(validators, NONE))
+            .prepare();
+  }
+
+  @Benchmark
+  public List<Either<BenchmarkFailure, BenchmarkBean>> failFastForEach() {
+    return VadorBatch.validateAndFailFastForEach(batch, batchValidationConfig, NULL_VALIDATABLE);
+  }
+
+  @Benchmark
+  public List<Either<BenchmarkFailure, BenchmarkBean>> failFastForEachInParallel() {
+    return VadorBatch.validateAndFailFastForEachInParallel(batch, batchValidationConfig);
+  }
+
+  @Benchmark
+  public Optional<BenchmarkFailure> failFastForAny() {
+    return VadorBatch.validateAndFailFastForAny(batch, batchValidationConfig, NULL_VALIDATABLE);
+  }
+
+  @Benchmark
+  public Optional<BenchmarkFailure> failFastForAnyInParallel() {
+    return VadorBatch.validateAndFailFastForAnyInParallel(batch, batchValidationConfig);
+  }
+
+  @Benchmark
+  public List<List<Either<BenchmarkFailure, BenchmarkBean>>> accumulateErrors() {
+    return VadorBatch.validateAndAccumulateErrors(batch, validators, NONE);
+  }
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.benchmarks;
+
+import static com.salesforce.vador.benchmarks.BenchmarkFailure.NONE;
+
+import com.salesforce.vador.config.ValidationConfig;
+import com.salesforce.vador.execution.Vador;
+import com.salesforce.vador.execution.plan.CompiledValidationPlan;
+import com.salesforce.vador.types.Validator;
+import io.vavr.Tuple;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** A single validatable through `Vador`, in fail-fast and error-accumulation modes. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VadorBenchmark {
+
+  @Param({"1", "10", "50"})
+  public int validatorCount;
+
+  private BenchmarkBean validBean;
+  private BenchmarkBean invalidBean;
+  private List<Validator<BenchmarkBean, BenchmarkFailure>> validators;
+  private ValidationConfig<BenchmarkBean, BenchmarkFailure> validationConfig;
+  private CompiledValidationPlan<BenchmarkBean, BenchmarkFailure> compiledValidationPlan;
+
+  @Setup
+  public void setup() {
+    validBean = BenchmarkBeans.beanOf(1, false);
+    invalidBean = BenchmarkBeans.beanOf(1, true);
+    validators = BenchmarkBeans.validators(validatorCount);
+    validationConfig =
+        ValidationConfig.<BenchmarkBean, BenchmarkFailure>toValidate()
+            .withValidators(Tuple.of(validators, NONE))
+            .prepare();
+    compiledValidationPlan = CompiledValidationPlan.compile(validationConfig);
+  }
+
+  @Benchmark
+  public Optional<BenchmarkFailure> failFastValid() {
+    return Vador.validateAndFailFast(validBean, validationConfig);
+  }
+
+  @Benchmark
+  public Optional<BenchmarkFailure> failFastInvalid() {
+    return Vador.validateAndFailFast(invalidBean, validationConfig);
+  }
+
+  @Benchmark
+  public Optional<BenchmarkFailure> failFastValidWithCompiledPlan() {
+    return Vador.validateAndFailFast(validBean, compiledValidationPlan);
+  }
+
+  @Benchmark
+  public List<BenchmarkFailure> accumulateErrorsValid() {
+    return Vador.validateAndAccumulateErrors(validBean, validators, NONE);
+  }
+
+  @Benchmark
+  public List<BenchmarkFailure> accumulateErrorsInvalid() {
+    return Vador.validateAndAccumulateErrors(invalidBean, validators, NONE);
+  }
+}
@@ -0,0 +1,190 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("SFIds")
+
+package com.salesforce.vador.config
+
+import io.vavr.Function2
+
+private const val SHORT_ID_LENGTH = 15
+private const val LONG_ID_LENGTH = 18
+private const val KEY_PREFIX_LENGTH = 3
+
+/** Chars of a 15-char ID each checksum char of an 18-char ID stands for. */
+private const val CHECKSUM_CHUNK_LENGTH = 5
+
+private const val NO_KEY_PREFIX = -1
+
+/**
+ * For `IDConfig.withIdValidator`, with key prefixes, like `001` for Account, as the entity info.
+ * IDs should be valid Salesforce IDs, as per [isValidSFId], with that key prefix. A `null` key
+ * prefix lets IDs of any object through.
+ */
+val isSFIdWithKeyPrefix = Function2 { id: String?, keyPrefix: String? ->
+  id != null && isValidSFId(id) && (keyPrefix == null || hasKeyPrefix(id, keyPrefix))
+}
+
+/**
+ * Whether `id` is a Salesforce ID. That's 15 letters and digits, or 18 where the last 3 are the
+ * checksum of the case of the first 15. The checksum is compared ignoring case. An 18-char ID that
+ * went through a case-insensitive system, with its letters all in one case, only needs its checksum
+ * to mark letters as uppercase, as Salesforce restores their case from it.
+ */
+fun isValidSFId(id: CharSequence?): Boolean =
+  when {
+    id == null -> false
+    id.length == SHORT_ID_LENGTH -> isAlphanumeric(id, SHORT_ID_LENGTH)
+    id.length == LONG_ID_LENGTH -> isAlphanumeric(id, SHORT_ID_LENGTH) && isChecksumValid(id)
+    else -> false
+  }
+
+/**
+ * Key prefix of `id`, its first 3 chars, packed into an int, so that IDs can be grouped or checked
+ * for their object without a `substring`. The key prefix itself, like `001`, packs into the same
+ * int. `-1` if `id` doesn't start with 3 letters or digits.
+ */
+fun keyPrefixCodeOf(id: CharSequence?): Int =
+  if (id == null || !isAlphanumeric(id, KEY_PREFIX_LENGTH)) {
+    NO_KEY_PREFIX
+  } else {
+    (id[0].code shl Byte.SIZE_BITS * 2) or (id[1].code shl Byte.SIZE_BITS) or id[2].code
+  }
+
+/** Whether `id` starts with `keyPrefix`. Key prefixes are case-sensitive, like `a0B`. */
+fun hasKeyPrefix(id: CharSequence, keyPrefix: CharSequence): Boolean {
+  if (keyPrefix.length != KEY_PREFIX_LENGTH || id.length < KEY_PREFIX_LENGTH) {
+    return false
+  }
+  for (index in 0 until KEY_PREFIX_LENGTH) {
+    if (id[index] != keyPrefix[index]) {
+      return false
+    }
+  }
+  return true
+}
+
+/**
+ * 18-char form of the Salesforce ID `id`, with the case of its first 15 chars as per its checksum,
+ * so that any form of the same ID maps to the same string. That makes it fit as the key of
+ * `FilterDuplicatesConfig.findAndFilterDuplicatesWith`. IDs already in that form are returned as
+ * they are.
+ *
+ * @return `null` for an invalid ID, which `FilterDuplicatesConfig.andFailNullKeysWith` can fail.
+ */
+fun toSFId18(id: CharSequence?): String? {
+  if (id == null || !isValidSFId(id)) {
+    return null
+  }
+  if (id.length == LONG_ID_LENGTH && isCanonical(id)) {
+    return id.toString()
+  }
+  val sfId18 = StringBuilder(LONG_ID_LENGTH)
+  if (id.length == SHORT_ID_LENGTH) {
+    sfId18.append(id)
+    for (chunk in 0 until LONG_ID_LENGTH - SHORT_ID_LENGTH) {
+      sfId18.append(checksumCharOf(id, chunk))
+    }
+  } else {
+    for (index in 0 until SHORT_ID_LENGTH) {
+      val char = id[index]
+      sfId18.append(if (isUpperCaseAt(id, index)) char.uppercaseChar() else char.lowercaseChar())
+    }
+    for (index in SHORT_ID_LENGTH until LONG_ID_LENGTH) {
+      sfId18.append(id[index].uppercaseChar())
+    }
+  }
+  return sfId18.toString()
+}
+
+private fun isAlphanumeric(id: CharSequence, length: Int): Boolean {
+  if (id.length < length) {
+    return false
+  }
+  for (index in 0 until length) {
+    if (!isLetter(id[index]) && id[index] !in '0'..'9') {
+      return false
+    }
+  }
+  return true
+}
+
+private fun isLetter(char: Char): Boolean = char in 'a'..'z' || char in 'A'..'Z'
+
+/**
+ * Whether the checksum of the 18-char `id` marks only letters as uppercase, and those exactly,
+ * unless the letters of `id` are all in one case.
+ */
+private fun isChecksumValid(id: CharSequence): Boolean {
+  for (chunk in 0 until LONG_ID_LENGTH - SHORT_ID_LENGTH) {
+    if (checksumBitsOf(id[SHORT_ID_LENGTH + chunk]) == NO_CHECKSUM) {
+      return false
+    }
+  }
+  var hasLowerCase = false
+  var hasUpperCase = false
+  var isCaseAsMarked = true
+  for (index in 0 until SHORT_ID_LENGTH) {
+    val char = id[index]
+    val isMarkedUpperCase = isUpperCaseAt(id, index)
+    if (!isLetter(char)) {
+      if (isMarkedUpperCase) {
+        return false
+      }
+      continue
+    }
+    val isUpperCase = char in 'A'..'Z'
+    hasUpperCase = hasUpperCase || isUpperCase
+    hasLowerCase = hasLowerCase || !isUpperCase
+    isCaseAsMarked = isCaseAsMarked && isUpperCase == isMarkedUpperCase
+  }
+  return isCaseAsMarked || !(hasLowerCase && hasUpperCase)
+}
+
+/** Whether the chars of the 18-char `id` are in the case its checksum marks them. */
+private fun isCanonical(id: CharSequence): Boolean {
+  for (index in 0 until SHORT_ID_LENGTH) {
+    val char = id[index]
+    if (isLetter(char) && (char in 'A'..'Z') != isUpperCaseAt(id, index)) {
+      return false
+    }
+  }
+  for (index in SHORT_ID_LENGTH until LONG_ID_LENGTH) {
+    if (id[index] in 'a'..'z') {
+      return false
+    }
+  }
+  return true
+}
+
+/** Whether the checksum of the 18-char `id` marks the char at `index` as uppercase. */
+private fun isUpperCaseAt(id: CharSequence, index: Int): Boolean {
+  val bits = checksumBitsOf(id[SHORT_ID_LENGTH + index / CHECKSUM_CHUNK_LENGTH])
+  return (bits and (1 shl index % CHECKSUM_CHUNK_LENGTH)) != 0
+}
+
+private const val NO_CHECKSUM = -1
+
+/** A bit per char of a chunk, set if it's uppercase, lowest bit first, as `A-Z` and then `0-5`. */
+private fun checksumBitsOf(char: Char): Int =
+  when (val upperCase = char.uppercaseChar()) {
+    in 'A'..'Z' -> upperCase - 'A'
+    in '0'..'5' -> upperCase - '0' + ('Z' - 'A' + 1)
+    else -> NO_CHECKSUM
+  }
+
+/** Checksum char of the `chunk` of the 15-char `id`. Inverse of [checksumBitsOf]. */
+private fun checksumCharOf(id: CharSequence, chunk: Int): Char {
+  var bits = 0
+  for (offset in 0 until CHECKSUM_CHUNK_LENGTH) {
+    if (id[chunk * CHECKSUM_CHUNK_LENGTH + offset] in 'A'..'Z') {
+      bits = bits or (1 shl offset)
+    }
+  }
+  val letters = 'Z' - 'A' + 1
+  return if (bits < letters) 'A' + bits else '0' + (bits - letters)
+}
@@ -15,6 +15,7 @@
 package com.salesforce.vador.config.base;
 
 import com.salesforce.vador.config.FilterDuplicatesConfig.FilterDuplicatesConfigBuilder;
+import com.salesforce.vador.types.BatchValidator;
 import java.util.Collection;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -32,5 +33,8 @@ public abstract class BaseBatchValidationConfig<ValidatableT, FailureT>
   protected Collection<FilterDuplicatesConfigBuilder<ValidatableT, @Nullable FailureT>>
       findAndFilterDuplicatesConfigs;
 
+  /** Fired in order after the per-member validators, each with the members still valid. */
+  @Singular Collection<BatchValidator<ValidatableT, FailureT>> withBatchValidators;
+
   BatchExecutionStrategy batchExecutionStrategy;
 }
@@ -16,6 +16,7 @@ package com.salesforce.vador.config.base;
 
 import com.salesforce.vador.config.FieldConfig.FieldConfigBuilder;
 import com.salesforce.vador.config.IDConfig.IDConfigBuilder;
+import com.salesforce.vador.execution.listener.ValidationListener;
 import com.salesforce.vador.specs.specs.base.BaseSpec;
 import com.salesforce.vador.types.Spec;
 import com.salesforce.vador.types.Specs;
@@ -89,6 +90,22 @@ public abstract class BaseValidationConfig<ValidatableT, FailureT> {
 
   @Nullable Function1<ValidatableT, List<ValidatableT>> withRecursiveMapper;
 
+  /** Receives events of runs of this config, in addition to the globally registered listeners. */
+  @Nullable ValidationListener withListener;
+
+  /**
+   * Lets fail-fast strategies reorder validators by their observed cost and failure rate, to find
+   * the first failure sooner. For a validatable failing more than one validator, the failure
+   * reported can then be any of them.
+   */
+  boolean withAdaptiveOrdering;
+
+  /**
+   * Ids of validators, as in `CompiledValidationPlan.getValidatorIds()`, that keep their position
+   * with `withAdaptiveOrdering`. No validator is moved across a pinned one.
+   */
+  @Singular Collection<String> withPinnedValidatorIds;
+
   // ! TODO 05/08/21 gopala.akshintala: Migrate them to be used with custom assertions
   public List<BaseSpec<ValidatableT, FailureT>> getSpecs() {
     return BaseValidationConfigEx.getSpecsEx(this);
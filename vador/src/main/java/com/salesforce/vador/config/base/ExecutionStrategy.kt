@@ -13,5 +13,19 @@ enum class ExecutionStrategy {
 
 enum class BatchExecutionStrategy {
   FAIL_FAST_FOR_EACH,
-  FAIL_FAST_FOR_ANY
+  FAIL_FAST_FOR_ANY,
+  /** Same as [FAIL_FAST_FOR_EACH], with members validated in parallel on the common pool. */
+  FAIL_FAST_FOR_EACH_IN_PARALLEL,
+  /** Same as [FAIL_FAST_FOR_ANY], with members validated in parallel on the common pool. */
+  FAIL_FAST_FOR_ANY_IN_PARALLEL,
+  /**
+   * Same as [FAIL_FAST_FOR_EACH], with each member validated on a thread of its own, virtual where
+   * supported, for validators that block on I/O.
+   */
+  FAIL_FAST_FOR_EACH_CONCURRENTLY,
+  /**
+   * Same as [FAIL_FAST_FOR_ANY], with each member validated on a thread of its own, virtual where
+   * supported, for validators that block on I/O.
+   */
+  FAIL_FAST_FOR_ANY_CONCURRENTLY
 }
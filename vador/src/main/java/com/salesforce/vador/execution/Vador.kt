@@ -13,6 +13,7 @@ import com.salesforce.vador.config.ValidationConfig
 import com.salesforce.vador.config.base.ExecutionStrategy.FAIL_FAST
 import com.salesforce.vador.config.container.ContainerValidationConfig
 import com.salesforce.vador.config.container.ContainerValidationConfigWith2Levels
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
 import com.salesforce.vador.execution.strategies.accumulationStrategy
 import com.salesforce.vador.execution.strategies.failFast
 import com.salesforce.vador.execution.strategies.failFastForContainer
@@ -71,6 +72,18 @@ object Vador {
     throwableMapper: (Throwable) -> FailureT? = { throw it }
   ): Optional<FailureT> = failFast(validationConfig, throwableMapper)(validatable)
 
+  /**
+   * Same as `validateAndFailFast` with a `ValidationConfig`, but on a plan compiled ahead with
+   * [CompiledValidationPlan.compile].
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT : Any, ValidatableT> validateAndFailFast(
+    validatable: ValidatableT,
+    compiledValidationPlan: CompiledValidationPlan<ValidatableT, FailureT>,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Optional<FailureT> = failFast(compiledValidationPlan, throwableMapper)(validatable)
+
   // --- ERROR ACCUMULATION ---
   /**
    * Applies the Simple validators on a Single validatable in error-accumulation mode.
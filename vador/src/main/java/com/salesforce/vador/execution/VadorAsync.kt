@@ -0,0 +1,123 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("VadorAsync")
+
+package com.salesforce.vador.execution
+
+import com.salesforce.vador.config.BatchValidationConfig
+import com.salesforce.vador.config.ValidationConfig
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.execution.strategies.failFastAsync
+import com.salesforce.vador.execution.strategies.failFastForAnyAsync
+import com.salesforce.vador.execution.strategies.failFastForEachAsync
+import com.salesforce.vador.types.AsyncValidator
+import io.vavr.Tuple2
+import io.vavr.control.Either
+import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * Non-blocking counterparts of `Vador`/`VadorBatch`, for validators that call other services. The
+ * config is applied first on the `executor`, same as in `Vador`/`VadorBatch`, and then the
+ * [AsyncValidator]s on what's still valid. A validatable's async validators are fired one after
+ * the other, and none are fired after its first failure. Members of a batch are validated
+ * concurrently, at most `maxConcurrency` at a time, so their latencies overlap instead of adding
+ * up.
+ *
+ * Continuations run on the `executor`, so it should not be a pool whose threads block on these
+ * futures.
+ */
+object VadorAsync {
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT : Any, ValidatableT> validateAndFailFast(
+    validatable: ValidatableT,
+    validationConfig: ValidationConfig<ValidatableT, FailureT?>,
+    asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): CompletableFuture<Optional<FailureT>> =
+    failFastAsync(
+      CompiledValidationPlan.of(validationConfig),
+      asyncValidators,
+      executor,
+      throwableMapper
+    )(validatable)
+
+  /** Results are in the same order as `validatables`, same as `VadorBatch`. */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEach(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it },
+    maxConcurrency: Int = VadorBatch.DEFAULT_MAX_CONCURRENCY
+  ): CompletableFuture<List<Either<FailureT?, ValidatableT?>>> =
+    failFastForEachAsync(
+      CompiledValidationPlan.of(batchValidationConfig),
+      asyncValidators,
+      executor,
+      maxConcurrency,
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables)
+
+  /**
+   * Completes with the first failure, the same as `VadorBatch` would find. Failures of the config
+   * are found first. After that, members are started in order, and once one fails, no member after
+   * it is started or fires more async validators. The failure reported is that of the member with
+   * the lowest index, once all members before it are validated.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForAny(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it },
+    maxConcurrency: Int = VadorBatch.DEFAULT_MAX_CONCURRENCY
+  ): CompletableFuture<Optional<FailureT>> =
+    failFastForAnyAsync<ValidatableT, FailureT, Nothing>(
+        CompiledValidationPlan.of(batchValidationConfig),
+        asyncValidators,
+        executor,
+        maxConcurrency,
+        failureForNullValidatable,
+        throwableMapper
+      )(validatables)
+      .thenApply { failure -> failure.map { it._2 } }
+
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT, PairT> validateAndFailFastForAny(
+    validatables: List<ValidatableT?>,
+    pairForInvalidMapper: (ValidatableT?) -> PairT?,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it },
+    maxConcurrency: Int = VadorBatch.DEFAULT_MAX_CONCURRENCY
+  ): CompletableFuture<Optional<Tuple2<PairT?, FailureT?>>> =
+    failFastForAnyAsync(
+      CompiledValidationPlan.of(batchValidationConfig),
+      asyncValidators,
+      executor,
+      maxConcurrency,
+      failureForNullValidatable,
+      throwableMapper,
+      pairForInvalidMapper
+    )(validatables)
+}
@@ -12,15 +12,30 @@ package com.salesforce.vador.execution
 import com.salesforce.vador.config.BatchOfBatch1ValidationConfig
 import com.salesforce.vador.config.BatchValidationConfig
 import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_ANY
+import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_ANY_CONCURRENTLY
+import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_ANY_IN_PARALLEL
 import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_EACH
+import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_EACH_CONCURRENTLY
+import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_EACH_IN_PARALLEL
 import com.salesforce.vador.config.container.ContainerValidationConfig
 import com.salesforce.vador.config.container.ContainerValidationConfigWith2Levels
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
 import com.salesforce.vador.execution.strategies.accumulationStrategy
 import com.salesforce.vador.execution.strategies.failFastForAny
 import com.salesforce.vador.execution.strategies.failFastForAnyBatchOfBatch1
+import com.salesforce.vador.execution.strategies.failFastForAnyInParallel
 import com.salesforce.vador.execution.strategies.failFastForEach
 import com.salesforce.vador.execution.strategies.failFastForEachBatchOfBatch1
+import com.salesforce.vador.execution.strategies.failFastForEachInParallel
+import com.salesforce.vador.execution.strategies.failFastForEachToBatchResult
+import com.salesforce.vador.execution.strategies.failFastForEachWithCallbacks
+import com.salesforce.vador.execution.strategies.util.inChunksOn
+import com.salesforce.vador.execution.strategies.util.oneByOneOn
+import com.salesforce.vador.execution.strategies.util.perTaskExecutor
 import com.salesforce.vador.lift.liftAllToEtr
+import com.salesforce.vador.types.BatchResult
+import com.salesforce.vador.types.OnInvalid
+import com.salesforce.vador.types.OnValid
 import com.salesforce.vador.types.Validator
 import com.salesforce.vador.types.ValidatorEtr
 import com.salesforce.vador.types.failures.FFABatchOfBatchFailureWithPair
@@ -31,8 +46,13 @@ import io.vavr.Tuple
 import io.vavr.Tuple2
 import io.vavr.control.Either
 import java.util.Optional
+import java.util.concurrent.Executor
+import java.util.concurrent.ForkJoinPool
 
 object VadorBatch {
+  /** Default cap on members validated at a time by the `Concurrently` strategies. */
+  const val DEFAULT_MAX_CONCURRENCY = 256
+
   /** <--- CONTAINER --- */
   @JvmStatic
   @JvmOverloads
@@ -144,6 +164,40 @@ object VadorBatch {
           failureForNullValidatable,
           throwableMapper
         )
+      FAIL_FAST_FOR_EACH_IN_PARALLEL ->
+        validateAndFailFastForEachInParallel(
+          validatables,
+          batchValidationConfig,
+          ForkJoinPool.commonPool(),
+          failureForNullValidatable,
+          throwableMapper
+        )
+      FAIL_FAST_FOR_ANY_IN_PARALLEL ->
+        validateAndFailFastForAnyInParallel(
+          validatables,
+          batchValidationConfig,
+          ForkJoinPool.commonPool(),
+          failureForNullValidatable,
+          throwableMapper
+        )
+      FAIL_FAST_FOR_EACH_CONCURRENTLY ->
+        validateAndFailFastForEachConcurrently(
+          validatables,
+          batchValidationConfig,
+          DEFAULT_MAX_CONCURRENCY,
+          perTaskExecutor,
+          failureForNullValidatable,
+          throwableMapper
+        )
+      FAIL_FAST_FOR_ANY_CONCURRENTLY ->
+        validateAndFailFastForAnyConcurrently(
+          validatables,
+          batchValidationConfig,
+          DEFAULT_MAX_CONCURRENCY,
+          perTaskExecutor,
+          failureForNullValidatable,
+          throwableMapper
+        )
       else ->
         throw IllegalArgumentException(
           "Batch Execution strategy must be specified or call specific strategy methods"
@@ -161,6 +215,127 @@ object VadorBatch {
   ): List<Either<FailureT?, ValidatableT?>> =
     failFastForEach(batchValidationConfig, failureForNullValidatable, throwableMapper)(validatables)
 
+  /**
+   * Same as `validateAndFailFastForEach` with a `BatchValidationConfig`, but on a plan compiled
+   * ahead with [CompiledValidationPlan.compile].
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEach(
+    validatables: List<ValidatableT?>,
+    compiledValidationPlan: CompiledValidationPlan<ValidatableT, FailureT>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): List<Either<FailureT?, ValidatableT?>> =
+    failFastForEach(compiledValidationPlan, failureForNullValidatable, throwableMapper)(
+      validatables
+    )
+
+  /**
+   * Same as `validateAndFailFastForEach`, but with results in a [BatchResult], which keeps a bit
+   * per member and a failure only per invalid member, instead of an `Either` per member. This suits
+   * large batches of mostly valid members. To pair failures with an identifier, map
+   * [BatchResult.invalidIndices] with [BatchResult.validatableAt].
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEachToBatchResult(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): BatchResult<ValidatableT, FailureT> =
+    validateAndFailFastForEachToBatchResult(
+      validatables,
+      CompiledValidationPlan.of(batchValidationConfig),
+      failureForNullValidatable,
+      throwableMapper
+    )
+
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEachToBatchResult(
+    validatables: List<ValidatableT?>,
+    compiledValidationPlan: CompiledValidationPlan<ValidatableT, FailureT>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): BatchResult<ValidatableT, FailureT> =
+    failFastForEachToBatchResult(
+      compiledValidationPlan,
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables)
+
+  /**
+   * Same as `validateAndFailFastForEach`, but pushes each result to `onValid` or `onInvalid` with
+   * the member's index in `validatables`, instead of returning a list, e.g., to route valid members
+   * to a writer and failures to an error sink. Results are pushed in the order of `validatables`,
+   * and members filtered out as duplicates are skipped. Without batch validators, each result is
+   * pushed as soon as its member is validated.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEachWithCallbacks(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    onValid: OnValid<ValidatableT>,
+    onInvalid: OnInvalid<ValidatableT, FailureT>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ) {
+    failFastForEachWithCallbacks(
+      CompiledValidationPlan.of(batchValidationConfig),
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables, onValid, onInvalid)
+  }
+
+  /**
+   * Same as `validateAndFailFastForEach`, but validates members in chunks on the `executor`.
+   * Results are in the same order as `validatables`. Validators must be thread-safe to use this.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEachInParallel(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): List<Either<FailureT?, ValidatableT?>> =
+    failFastForEachInParallel(
+      CompiledValidationPlan.of(batchValidationConfig),
+      inChunksOn(executor),
+      FAIL_FAST_FOR_EACH_IN_PARALLEL,
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables)
+
+  /**
+   * Same as `validateAndFailFastForEach`, but validates each member as a task of its own on the
+   * `executor`, with at most `maxConcurrency` of them running at a time. This suits validators that
+   * block on I/O, like database or HTTP calls. By default, each task runs on a virtual thread on
+   * Java 21+, or on a cached daemon thread before that. Results are in the same order as
+   * `validatables`. Validators must be thread-safe to use this.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEachConcurrently(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    maxConcurrency: Int = DEFAULT_MAX_CONCURRENCY,
+    executor: Executor = perTaskExecutor,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): List<Either<FailureT?, ValidatableT?>> =
+    failFastForEachInParallel(
+      CompiledValidationPlan.of(batchValidationConfig),
+      oneByOneOn(executor, maxConcurrency),
+      FAIL_FAST_FOR_EACH_CONCURRENTLY,
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables)
+
   @JvmStatic
   @JvmOverloads
   fun <FailureT, ValidatableT, PairT> validateAndFailFastForEach(
@@ -289,6 +464,25 @@ object VadorBatch {
   ): Optional<FailureT> =
     failFastForAny(batchValidationConfig, failureForNullValidatable, throwableMapper)(validatables)
 
+  /**
+   * Same as `validateAndFailFastForAny` with a `BatchValidationConfig`, but on a plan compiled
+   * ahead with [CompiledValidationPlan.compile].
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForAny(
+    validatables: List<ValidatableT?>,
+    compiledValidationPlan: CompiledValidationPlan<ValidatableT, FailureT>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Optional<FailureT> =
+    failFastForAny<ValidatableT, FailureT, Nothing>(
+        compiledValidationPlan,
+        failureForNullValidatable,
+        throwableMapper
+      )(validatables)
+      .map { it._2 }
+
   /**
    * This returns the first failure of first invalid item in a batch and pairs it with an identifier
    * using the `pairForInvalidMapper` This can be used for `AllOrNone` scenarios in batch
@@ -309,6 +503,95 @@ object VadorBatch {
       pairForInvalidMapper
     )(validatables)
 
+  /**
+   * Same as `validateAndFailFastForAny`, but validates members in chunks on the `executor`. All
+   * workers stop at the first failure found, and the failure reported is always that of the invalid
+   * member with the lowest index, same as `validateAndFailFastForAny`. Validators must be
+   * thread-safe to use this.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForAnyInParallel(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Optional<FailureT> =
+    failFastForAnyInParallel<ValidatableT, FailureT, Nothing>(
+        CompiledValidationPlan.of(batchValidationConfig),
+        inChunksOn(executor),
+        FAIL_FAST_FOR_ANY_IN_PARALLEL,
+        failureForNullValidatable,
+        throwableMapper
+      )(validatables)
+      .map { it._2 }
+
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT, PairT> validateAndFailFastForAnyInParallel(
+    validatables: List<ValidatableT?>,
+    pairForInvalidMapper: (ValidatableT?) -> PairT?,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    executor: Executor = ForkJoinPool.commonPool(),
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Optional<Tuple2<PairT?, FailureT?>> =
+    failFastForAnyInParallel(
+      CompiledValidationPlan.of(batchValidationConfig),
+      inChunksOn(executor),
+      FAIL_FAST_FOR_ANY_IN_PARALLEL,
+      failureForNullValidatable,
+      throwableMapper,
+      pairForInvalidMapper
+    )(validatables)
+
+  /**
+   * Same as `validateAndFailFastForAny`, but validates each member as a task of its own on the
+   * `executor`, with at most `maxConcurrency` of them running at a time, like
+   * `validateAndFailFastForEachConcurrently`. Once a failure is found, members past it are skipped.
+   * The failure reported is always that of the invalid member with the lowest index, same as
+   * `validateAndFailFastForAny`.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForAnyConcurrently(
+    validatables: List<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    maxConcurrency: Int = DEFAULT_MAX_CONCURRENCY,
+    executor: Executor = perTaskExecutor,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Optional<FailureT> =
+    failFastForAnyInParallel<ValidatableT, FailureT, Nothing>(
+        CompiledValidationPlan.of(batchValidationConfig),
+        oneByOneOn(executor, maxConcurrency),
+        FAIL_FAST_FOR_ANY_CONCURRENTLY,
+        failureForNullValidatable,
+        throwableMapper
+      )(validatables)
+      .map { it._2 }
+
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT, PairT> validateAndFailFastForAnyConcurrently(
+    validatables: List<ValidatableT?>,
+    pairForInvalidMapper: (ValidatableT?) -> PairT?,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    maxConcurrency: Int = DEFAULT_MAX_CONCURRENCY,
+    executor: Executor = perTaskExecutor,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Optional<Tuple2<PairT?, FailureT?>> =
+    failFastForAnyInParallel(
+      CompiledValidationPlan.of(batchValidationConfig),
+      oneByOneOn(executor, maxConcurrency),
+      FAIL_FAST_FOR_ANY_CONCURRENTLY,
+      failureForNullValidatable,
+      throwableMapper,
+      pairForInvalidMapper
+    )(validatables)
+
   @JvmStatic
   @JvmOverloads
   fun <FailureT, ContainerValidatableT, MemberValidatableT> validateAndFailFastForAny(
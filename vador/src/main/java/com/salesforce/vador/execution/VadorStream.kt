@@ -0,0 +1,115 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("VadorStream")
+
+package com.salesforce.vador.execution
+
+import com.salesforce.vador.config.BatchValidationConfig
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.execution.strategies.failFastForEachPublisher
+import com.salesforce.vador.execution.strategies.failFastForEachStreaming
+import io.vavr.control.Either
+import java.util.Spliterator
+import java.util.Spliterators
+import java.util.concurrent.Executor
+import java.util.concurrent.Flow
+import java.util.stream.Stream
+import java.util.stream.StreamSupport
+
+/**
+ * Counterparts of `VadorBatch.validateAndFailFastForEach` for inputs too large to hold in memory,
+ * or that arrive over time. Members are validated lazily as results are consumed, in the same
+ * order, so memory is bounded by the keys seen by `findAndFilterDuplicatesConfigs`, not by the
+ * input.
+ *
+ * Duplicates are found against the members seen so far. So unlike `VadorBatch`, the first member
+ * with a key is valid, and only the ones after it with the same key are failed or filtered out.
+ * Batch validators can't be used, as they need the whole batch.
+ */
+object VadorStream {
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEach(
+    validatables: Sequence<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Sequence<Either<FailureT?, ValidatableT?>> =
+    failFastForEachStreaming(
+      CompiledValidationPlan.of(batchValidationConfig),
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables)
+
+  /** Results can be iterated only once, same as `validatables`. */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEach(
+    validatables: Iterator<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Iterator<Either<FailureT?, ValidatableT?>> =
+    validateAndFailFastForEach(
+        validatables.asSequence(),
+        batchValidationConfig,
+        failureForNullValidatable,
+        throwableMapper
+      )
+      .iterator()
+
+  /** Closing the result closes `validatables`. */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEach(
+    validatables: Stream<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Stream<Either<FailureT?, ValidatableT?>> {
+    val results =
+      validateAndFailFastForEach(
+        validatables.iterator(),
+        batchValidationConfig,
+        failureForNullValidatable,
+        throwableMapper
+      )
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED),
+        false
+      )
+      .onClose { validatables.close() }
+  }
+
+  /**
+   * Publishes results of members from the `validatables` publisher, in the same order, as they are
+   * requested downstream. At most `maxConcurrency` members are requested ahead of downstream demand
+   * and validated at a time, on the `executor`. By default, members are validated one at a time on
+   * the thread that publishes them.
+   *
+   * Failures of `throwableMapper` and errors from `validatables` are published as errors, after the
+   * results of members before them.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun <FailureT, ValidatableT> validateAndFailFastForEach(
+    validatables: Flow.Publisher<ValidatableT?>,
+    batchValidationConfig: BatchValidationConfig<ValidatableT, FailureT?>,
+    maxConcurrency: Int = 1,
+    executor: Executor = Executor { it.run() },
+    failureForNullValidatable: FailureT? = null,
+    throwableMapper: (Throwable) -> FailureT? = { throw it }
+  ): Flow.Publisher<Either<FailureT?, ValidatableT?>> =
+    failFastForEachPublisher(
+      CompiledValidationPlan.of(batchValidationConfig),
+      maxConcurrency,
+      executor,
+      failureForNullValidatable,
+      throwableMapper
+    )(validatables)
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.execution.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a run of `Vador`/`VadorBatch` with a fail-fast strategy, spanning the whole run.
+ * Disabled by default. Enable it in the recording settings (a `.jfc` file) by its name {@value
+ * #NAME}, or with `Recording.enable(BatchValidationEvent.class)`.
+ */
+@Name(BatchValidationEvent.NAME)
+@Label("Batch Validation")
+@Category("Vador")
+@Description("Run of a validation config on a validatable or a batch")
+@Enabled(false)
+@StackTrace(false)
+public final class BatchValidationEvent extends Event {
+  public static final String NAME = "vador.BatchValidation";
+
+  @Label("Execution Strategy")
+  @Description("Name of the ExecutionStrategy or BatchExecutionStrategy")
+  String executionStrategy;
+
+  @Label("Batch Size")
+  @Description("1 for a single validatable")
+  int batchSize;
+
+  @Label("Failure Count")
+  @Description("Number of validatables failed, including for nulls and duplicates")
+  int failureCount;
+
+  /** Commits this event with the fields, if it's enabled and passes the recording's threshold. */
+  public void commit(String executionStrategy, int batchSize, int failureCount) {
+    this.executionStrategy = executionStrategy;
+    this.batchSize = batchSize;
+    this.failureCount = failureCount;
+    commit();
+  }
+}
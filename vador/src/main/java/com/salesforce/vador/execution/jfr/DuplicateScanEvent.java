@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.execution.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the scan of a batch for nulls and duplicates with `findAndFilterDuplicatesConfigs`,
+ * before any validator is fired. Disabled by default. Enable it by its name {@value #NAME}.
+ */
+@Name(DuplicateScanEvent.NAME)
+@Label("Duplicate Scan")
+@Category("Vador")
+@Description("Scan of a batch for null validatables, null keys and duplicate keys")
+@Enabled(false)
+@StackTrace(false)
+public final class DuplicateScanEvent extends Event {
+  public static final String NAME = "vador.DuplicateScan";
+
+  @Label("Batch Size")
+  int batchSize;
+
+  @Label("Filter Config Count")
+  int filterConfigCount;
+
+  @Label("Filtered Out Count")
+  @Description("Number of duplicates filtered out of the batch")
+  int filteredOutCount;
+
+  @Label("Failure Count")
+  @Description("Number of validatables failed for being null, having null keys or duplicates")
+  int failureCount;
+
+  /** Commits this event with the fields, if it's enabled and passes the recording's threshold. */
+  public void commit(int batchSize, int filterConfigCount, int filteredOutCount, int failureCount) {
+    this.batchSize = batchSize;
+    this.filterConfigCount = filterConfigCount;
+    this.filteredOutCount = filteredOutCount;
+    this.failureCount = failureCount;
+    commit();
+  }
+}
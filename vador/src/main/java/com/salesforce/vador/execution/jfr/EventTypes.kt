@@ -0,0 +1,29 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("EventTypes")
+
+package com.salesforce.vador.execution.jfr
+
+import jdk.jfr.EventType
+
+/*
+ * Types of Vador's JFR events, looked up once, to check if an event is enabled in a recording
+ * before allocating one. Without a recording running, none of them are.
+ */
+
+@get:JvmSynthetic
+internal val batchValidationEventType: EventType =
+  EventType.getEventType(BatchValidationEvent::class.java)
+
+@get:JvmSynthetic
+internal val duplicateScanEventType: EventType =
+  EventType.getEventType(DuplicateScanEvent::class.java)
+
+@get:JvmSynthetic
+internal val validatorInvocationEventType: EventType =
+  EventType.getEventType(ValidatorInvocationEvent::class.java)
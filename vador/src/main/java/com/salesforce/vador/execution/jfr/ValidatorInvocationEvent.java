@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.execution.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a validator fired on a validatable, in runs that emit {@link BatchValidationEvent}.
+ * Disabled by default, as there is one per validator per validatable. Enable it by its name {@value
+ * #NAME}, preferably with a threshold to record only slow invocations.
+ */
+@Name(ValidatorInvocationEvent.NAME)
+@Label("Validator Invocation")
+@Category("Vador")
+@Description("Validator fired on a validatable")
+@Enabled(false)
+@StackTrace(false)
+public final class ValidatorInvocationEvent extends Event {
+  public static final String NAME = "vador.ValidatorInvocation";
+
+  @Label("Validator Id")
+  @Description("Config slot the validator is from, like withValidators[2]")
+  String validatorId;
+
+  @Label("Outcome")
+  @Description("PASSED, FAILED or THREW")
+  String outcome;
+
+  /** Commits this event with the fields, if it's enabled and passes the recording's threshold. */
+  public void commit(String validatorId, String outcome) {
+    this.validatorId = validatorId;
+    this.outcome = outcome;
+    commit();
+  }
+}
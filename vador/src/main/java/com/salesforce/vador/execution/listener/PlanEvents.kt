@@ -0,0 +1,48 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("PlanEvents")
+
+package com.salesforce.vador.execution.listener
+
+import com.salesforce.vador.execution.jfr.BatchValidationEvent
+import com.salesforce.vador.execution.jfr.batchValidationEventType
+
+/**
+ * Runs `run` between plan start and end events to the `listener`, and within a
+ * [BatchValidationEvent] if it's enabled in a JFR recording. Without a listener or a recording, it
+ * just runs `run`, so nothing is measured. `failureCount` is computed only if there is an event to
+ * report it in.
+ */
+@JvmSynthetic
+internal inline fun <ResultT> observePlan(
+  listener: ValidationListener?,
+  executionStrategy: Enum<*>,
+  batchSize: Int,
+  failureCount: (ResultT) -> Int,
+  run: () -> ResultT
+): ResultT {
+  val event = if (batchValidationEventType.isEnabled) BatchValidationEvent() else null
+  if (listener == null && event == null) {
+    return run()
+  }
+  listener?.onPlanStart(executionStrategy.name, batchSize)
+  event?.begin()
+  val startNanos = System.nanoTime()
+  val result = run()
+  val durationNanos = System.nanoTime() - startNanos
+  event?.end()
+  val commitEvent = event?.shouldCommit() == true
+  if (listener != null || commitEvent) {
+    val failures = failureCount(result)
+    listener?.onPlanEnd(executionStrategy.name, batchSize, failures, durationNanos)
+    if (commitEvent) {
+      event?.commit(executionStrategy.name, batchSize, failures)
+    }
+  }
+  return result
+}
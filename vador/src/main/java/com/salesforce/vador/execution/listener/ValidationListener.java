@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.execution.listener;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives events of validation runs, to measure them without a profiler. Attach it to a config
+ * with `withListener` or to all configs with {@link ValidationListeners#register}. {@link
+ * ValidationMetrics} is a ready-to-use implementation.
+ *
+ * <p>Callbacks are invoked inline on the validating thread, which may be any thread in parallel
+ * modes. So implementations must be thread-safe and cheap, or they slow down validation.
+ *
+ * <p>Events are emitted for the fail-fast strategies of `Vador` and `VadorBatch`.
+ */
+public interface ValidationListener {
+
+  /**
+   * @param executionStrategy Name of the `ExecutionStrategy` or `BatchExecutionStrategy`.
+   * @param batchSize 1 for a single validatable.
+   */
+  default void onPlanStart(String executionStrategy, int batchSize) {}
+
+  /**
+   * Not invoked if the run ends with an exception.
+   *
+   * @param failureCount Number of validatables failed, including for nulls and duplicates.
+   */
+  default void onPlanEnd(
+      String executionStrategy, int batchSize, int failureCount, long durationNanos) {}
+
+  /**
+   * @param validatorId Id of the validator derived from the config slot it's from, like
+   *     `withValidators[2]`, stable across runs of the same config.
+   */
+  default void onValidatorInvocation(
+      String validatorId, ValidatorOutcome outcome, long durationNanos) {}
+
+  /**
+   * Invoked after {@link #onValidatorInvocation} with {@link ValidatorOutcome#THREW}.
+   *
+   * @param mappedFailure Failure the `throwableMapper` mapped `throwable` to, or `null` if it
+   *     rethrew.
+   */
+  default void onValidatorException(
+      String validatorId, Throwable throwable, @Nullable Object mappedFailure) {}
+}
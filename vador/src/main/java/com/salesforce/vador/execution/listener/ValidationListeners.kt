@@ -0,0 +1,66 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.listener
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/** Registry of [ValidationListener]s that receive events of runs of all configs. */
+object ValidationListeners {
+  private val listeners = CopyOnWriteArrayList<ValidationListener>()
+
+  /** Listener fanning out to all registered listeners, or `null` if there are none. */
+  @Volatile
+  @get:JvmSynthetic
+  internal var global: ValidationListener? = null
+    private set
+
+  @JvmStatic
+  fun register(listener: ValidationListener) {
+    listeners += listener
+    global = compositeOf(listeners)
+  }
+
+  @JvmStatic
+  fun unregister(listener: ValidationListener) {
+    listeners -= listener
+    global = compositeOf(listeners)
+  }
+
+  @JvmSynthetic
+  internal fun compositeOf(listeners: List<ValidationListener>): ValidationListener? =
+    when (listeners.size) {
+      0 -> null
+      1 -> listeners.first()
+      else -> CompositeValidationListener(listeners.toList())
+    }
+}
+
+private class CompositeValidationListener(private val listeners: List<ValidationListener>) :
+  ValidationListener {
+  override fun onPlanStart(executionStrategy: String, batchSize: Int) =
+    listeners.forEach { it.onPlanStart(executionStrategy, batchSize) }
+
+  override fun onPlanEnd(
+    executionStrategy: String,
+    batchSize: Int,
+    failureCount: Int,
+    durationNanos: Long
+  ) = listeners.forEach { it.onPlanEnd(executionStrategy, batchSize, failureCount, durationNanos) }
+
+  override fun onValidatorInvocation(
+    validatorId: String,
+    outcome: ValidatorOutcome,
+    durationNanos: Long
+  ) = listeners.forEach { it.onValidatorInvocation(validatorId, outcome, durationNanos) }
+
+  override fun onValidatorException(
+    validatorId: String,
+    throwable: Throwable,
+    mappedFailure: Any?
+  ) = listeners.forEach { it.onValidatorException(validatorId, throwable, mappedFailure) }
+}
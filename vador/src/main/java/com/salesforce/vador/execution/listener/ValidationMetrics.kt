@@ -0,0 +1,113 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.listener
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * [ValidationListener] that counts runs and validator invocations, and sums their durations, per
+ * execution strategy and per validator id. Counters are striped ([LongAdder]), so validating
+ * threads rarely contend on them. Read them any time with [planStats] and [validatorStats], e.g.,
+ * to find the validators that take the most time in total.
+ */
+class ValidationMetrics : ValidationListener {
+  private val planStatsByStrategy = ConcurrentHashMap<String, PlanStats>()
+  private val validatorStatsById = ConcurrentHashMap<String, ValidatorStats>()
+
+  override fun onPlanEnd(
+    executionStrategy: String,
+    batchSize: Int,
+    failureCount: Int,
+    durationNanos: Long
+  ) {
+    val stats = planStatsByStrategy.statsFor(executionStrategy, ::PlanStats)
+    stats.runs.increment()
+    stats.validatables.add(batchSize.toLong())
+    stats.failures.add(failureCount.toLong())
+    stats.totalNanos.add(durationNanos)
+  }
+
+  override fun onValidatorInvocation(
+    validatorId: String,
+    outcome: ValidatorOutcome,
+    durationNanos: Long
+  ) {
+    val stats = validatorStatsById.statsFor(validatorId, ::ValidatorStats)
+    stats.invocations.increment()
+    stats.totalNanos.add(durationNanos)
+    when (outcome) {
+      ValidatorOutcome.PASSED -> Unit
+      ValidatorOutcome.FAILED -> stats.failures.increment()
+      ValidatorOutcome.THREW -> stats.exceptions.increment()
+    }
+  }
+
+  /** Live stats by execution strategy name. */
+  fun planStats(): Map<String, PlanStats> = planStatsByStrategy
+
+  /** Live stats by validator id. */
+  fun validatorStats(): Map<String, ValidatorStats> = validatorStatsById
+
+  fun reset() {
+    planStatsByStrategy.clear()
+    validatorStatsById.clear()
+  }
+
+  class PlanStats internal constructor() {
+    @get:JvmSynthetic internal val runs = LongAdder()
+    @get:JvmSynthetic internal val validatables = LongAdder()
+    @get:JvmSynthetic internal val failures = LongAdder()
+    @get:JvmSynthetic internal val totalNanos = LongAdder()
+
+    val runCount: Long
+      get() = runs.sum()
+
+    val validatableCount: Long
+      get() = validatables.sum()
+
+    val failureCount: Long
+      get() = failures.sum()
+
+    val totalDurationNanos: Long
+      get() = totalNanos.sum()
+
+    override fun toString(): String =
+      "PlanStats(runs=$runCount, validatables=$validatableCount, failures=$failureCount, " +
+        "totalDurationNanos=$totalDurationNanos)"
+  }
+
+  class ValidatorStats internal constructor() {
+    @get:JvmSynthetic internal val invocations = LongAdder()
+    @get:JvmSynthetic internal val failures = LongAdder()
+    @get:JvmSynthetic internal val exceptions = LongAdder()
+    @get:JvmSynthetic internal val totalNanos = LongAdder()
+
+    val invocationCount: Long
+      get() = invocations.sum()
+
+    val failureCount: Long
+      get() = failures.sum()
+
+    val exceptionCount: Long
+      get() = exceptions.sum()
+
+    val totalDurationNanos: Long
+      get() = totalNanos.sum()
+
+    override fun toString(): String =
+      "ValidatorStats(invocations=$invocationCount, failures=$failureCount, " +
+        "exceptions=$exceptionCount, totalDurationNanos=$totalDurationNanos)"
+  }
+}
+
+// `get` first, as `computeIfAbsent` locks on hits for some JDKs, and stats are mostly hits.
+private fun <StatsT : Any> ConcurrentHashMap<String, StatsT>.statsFor(
+  key: String,
+  newStats: () -> StatsT
+): StatsT = this[key] ?: computeIfAbsent(key) { newStats() }
@@ -0,0 +1,15 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.listener
+
+enum class ValidatorOutcome {
+  PASSED,
+  FAILED,
+  /** Threw an exception, which may still be mapped to a failure by the `throwableMapper`. */
+  THREW
+}
@@ -0,0 +1,87 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.plan
+
+import java.util.BitSet
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/** Validatables validated between reorders, so that the cost of sorting is spread over many. */
+private const val REORDER_EVERY = 1024L
+
+/**
+ * Order to fire a plan's validators in, adapted to their cost and failure rate as observed so far.
+ *
+ * For independent validators, the expected time to the first failure is the least when they are
+ * fired in ascending order of `average cost / failure rate`. Validators are reordered by that
+ * every [REORDER_EVERY] validatables. Pinned validators never move, and no validator is moved
+ * across them, so validators that depend on the ones before them can be kept behind those.
+ *
+ * Safe to use from multiple threads. Stats are updated without locks, so a reorder may miss the
+ * latest few invocations, which doesn't matter for an estimate.
+ */
+internal class AdaptiveOrder(private val validatorCount: Int, private val pinned: BitSet) {
+  private val invocations = AtomicLongArray(validatorCount)
+  private val failures = AtomicLongArray(validatorCount)
+  private val nanos = AtomicLongArray(validatorCount)
+  private val validatedCount = AtomicLong()
+
+  /** Indices of the plan's validators, in the order to fire them. */
+  @Volatile
+  var order: IntArray = IntArray(validatorCount) { it }
+    private set
+
+  fun record(validatorIndex: Int, durationNanos: Long, failed: Boolean) {
+    invocations.incrementAndGet(validatorIndex)
+    nanos.addAndGet(validatorIndex, durationNanos)
+    if (failed) {
+      failures.incrementAndGet(validatorIndex)
+    }
+  }
+
+  /** To be called once per validatable, after its validators are fired. */
+  fun onValidated() {
+    if (validatedCount.incrementAndGet() % REORDER_EVERY == 0L) {
+      order = reorder()
+    }
+  }
+
+  private fun reorder(): IntArray {
+    val ranks = DoubleArray(validatorCount) { rank(it) }
+    val reordered = IntArray(validatorCount)
+    var segmentStart = 0
+    for (index in 0..validatorCount) {
+      if (index == validatorCount || pinned[index]) {
+        // Sorting is stable, so validators ranked the same keep their order in the config.
+        (segmentStart until index).sortedBy { ranks[it] }.forEachIndexed { offset, validatorIndex ->
+          reordered[segmentStart + offset] = validatorIndex
+        }
+        if (index < validatorCount) {
+          reordered[index] = index
+        }
+        segmentStart = index + 1
+      }
+    }
+    return reordered
+  }
+
+  /**
+   * Average cost over the failure rate, with the failure rate smoothed so that validators that
+   * never failed yet are ranked by cost, and validators not fired yet are ranked first, to sample
+   * them.
+   */
+  private fun rank(validatorIndex: Int): Double {
+    val invoked = invocations.get(validatorIndex)
+    if (invoked == 0L) {
+      return 0.0
+    }
+    val averageNanos = nanos.get(validatorIndex).toDouble() / invoked
+    val failureRate = (failures.get(validatorIndex) + 1.0) / (invoked + 2.0)
+    return averageNanos / failureRate
+  }
+}
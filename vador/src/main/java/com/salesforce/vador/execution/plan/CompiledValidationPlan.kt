@@ -0,0 +1,130 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.plan
+
+import com.salesforce.vador.config.FilterDuplicatesConfig
+import com.salesforce.vador.config.base.BaseBatchValidationConfig
+import com.salesforce.vador.config.base.BaseValidationConfig
+import com.salesforce.vador.execution.listener.ValidationListener
+import com.salesforce.vador.execution.listener.ValidationListeners
+import com.salesforce.vador.execution.strategies.util.FieldSnapshots
+import com.salesforce.vador.execution.strategies.util.configToIdentifiedValidators
+import com.salesforce.vador.types.BatchValidator
+import com.salesforce.vador.types.ValidatorEtr
+import io.vavr.Function1
+import java.util.BitSet
+
+/**
+ * A `ValidationConfig`/`BatchValidationConfig` lowered into the validators, batch validators and
+ * the prepared duplicate filters it describes. Configs are immutable, so this is done once per
+ * config instead of once per validatable.
+ *
+ * Plans can be compiled explicitly with [compile] and passed to the `Vador`/`VadorBatch` overloads
+ * that accept a plan. Entry points that accept a config use [of], which caches plans per config
+ * instance.
+ *
+ * Plans copy what they need from their config instead of holding it, as the cache holds plans
+ * strongly and keys them by their config only weakly.
+ *
+ * @param <ValidatableT>
+ * @param <FailureT>
+ */
+class CompiledValidationPlan<ValidatableT, FailureT>
+private constructor(
+  @get:JvmSynthetic internal val validators: List<ValidatorEtr<ValidatableT?, FailureT?>>,
+  /** Ids of [validators] in the same order, as reported to [ValidationListener]s. */
+  val validatorIds: List<String>,
+  @get:JvmSynthetic
+  internal val filterDuplicatesConfigs: List<FilterDuplicatesConfig<ValidatableT, FailureT?>>,
+  @get:JvmSynthetic internal val batchValidators: List<BatchValidator<ValidatableT, FailureT?>>,
+  /** Order to fire [validators] in, if the config opts in to adaptive ordering. */
+  @get:JvmSynthetic internal val adaptiveOrder: AdaptiveOrder?,
+  @get:JvmSynthetic
+  internal val recursiveMapper: Function1<ValidatableT, List<ValidatableT>>?,
+  private val configListener: ValidationListener?
+) {
+  /**
+   * Snapshots of the fields read while validating a validatable, so that getters shared by
+   * [validators] run once. Only plans with more than one validator can share a getter.
+   */
+  @get:JvmSynthetic
+  internal val fieldSnapshots: FieldSnapshots? = if (validators.size > 1) FieldSnapshots() else null
+
+  /** Number of validators fired per validatable in this plan. */
+  val validatorCount: Int
+    get() = validators.size
+
+  @Volatile private var listenerWithGlobal: Pair<ValidationListener, ValidationListener?>? = null
+
+  /**
+   * Config's listener combined with the global listeners, or `null` if there are none, in which
+   * case nothing is measured.
+   */
+  @get:JvmSynthetic
+  internal val listener: ValidationListener?
+    get() {
+      val globalListener = ValidationListeners.global
+      if (configListener == null || globalListener == null) {
+        return configListener ?: globalListener
+      }
+      val cached = listenerWithGlobal
+      if (cached != null && cached.first === globalListener) {
+        return cached.second
+      }
+      return ValidationListeners.compositeOf(listOf(configListener, globalListener)).also {
+        listenerWithGlobal = Pair(globalListener, it)
+      }
+    }
+
+  companion object {
+    private val planCache =
+      IdentityWeakCache<BaseValidationConfig<*, *>, CompiledValidationPlan<*, *>>()
+
+    /** Compiles a fresh plan for the `config`, without consulting or populating the cache. */
+    @JvmStatic
+    @Suppress("UNCHECKED_CAST")
+    fun <ValidatableT, FailureT> compile(
+      config: BaseValidationConfig<ValidatableT, FailureT?>
+    ): CompiledValidationPlan<ValidatableT, FailureT> {
+      val identifiedValidators = configToIdentifiedValidators(config)
+      val validatorIds = identifiedValidators.map { it.first }
+      val batchConfig = config as? BaseBatchValidationConfig<ValidatableT, FailureT?>
+      return CompiledValidationPlan(
+        identifiedValidators.map { it.second },
+        validatorIds,
+        batchConfig?.findAndFilterDuplicatesConfigs?.map { it.prepare() } ?: emptyList(),
+        batchConfig?.withBatchValidators?.toList() ?: emptyList(),
+        if (config.isWithAdaptiveOrdering) adaptiveOrderOf(validatorIds, config) else null,
+        config.withRecursiveMapper,
+        config.withListener
+      )
+    }
+
+    private fun adaptiveOrderOf(
+      validatorIds: List<String>,
+      config: BaseValidationConfig<*, *>
+    ): AdaptiveOrder {
+      val pinned = BitSet(validatorIds.size)
+      for (pinnedId in config.withPinnedValidatorIds) {
+        val index = validatorIds.indexOf(pinnedId)
+        require(index >= 0) { "No validator with id $pinnedId to pin, among $validatorIds" }
+        pinned.set(index)
+      }
+      return AdaptiveOrder(validatorIds.size, pinned)
+    }
+
+    /** Returns the cached plan for this `config` instance, compiling it on first use. */
+    @JvmStatic
+    @Suppress("UNCHECKED_CAST")
+    fun <ValidatableT, FailureT> of(
+      config: BaseValidationConfig<ValidatableT, FailureT?>
+    ): CompiledValidationPlan<ValidatableT, FailureT> =
+      planCache.getOrPut(config) { compile(config) }
+        as CompiledValidationPlan<ValidatableT, FailureT>
+  }
+}
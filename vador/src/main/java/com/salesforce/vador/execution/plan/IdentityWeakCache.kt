@@ -0,0 +1,54 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.plan
+
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Thread-safe cache keyed by the identity of its keys, which are only weakly held. Configs are
+ * often built per request, so holding them strongly would leak. Values are held strongly, so they
+ * must not refer to their key, or the key is never collected.
+ */
+internal class IdentityWeakCache<K : Any, V : Any> {
+  private val staleKeys = ReferenceQueue<K>()
+  private val entries = ConcurrentHashMap<Any, V>()
+
+  // * NOTE: `computeIfAbsent` is avoided on purpose, as computing a value may consult this cache
+  // again (e.g., nested configs), which `ConcurrentHashMap` doesn't allow.
+  fun getOrPut(key: K, compute: () -> V): V {
+    expungeStaleEntries()
+    entries[IdentityWeakKey(key)]?.let {
+      return it
+    }
+    val computed = compute()
+    return entries.putIfAbsent(IdentityWeakKey(key, staleKeys), computed) ?: computed
+  }
+
+  private fun expungeStaleEntries() {
+    var stale = staleKeys.poll()
+    while (stale != null) {
+      entries.remove(stale)
+      stale = staleKeys.poll()
+    }
+  }
+
+  private class IdentityWeakKey<K : Any>(key: K, queue: ReferenceQueue<K>? = null) :
+    WeakReference<K>(key, queue) {
+    private val hash = System.identityHashCode(key)
+
+    override fun hashCode(): Int = hash
+
+    override fun equals(other: Any?): Boolean {
+      if (this === other) return true
+      val key = get()
+      return other is IdentityWeakKey<*> && key != null && key === other.get()
+    }
+  }
+}
@@ -0,0 +1,304 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.strategies
+
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.types.AsyncValidator
+import io.vavr.Tuple
+import io.vavr.Tuple2
+import io.vavr.control.Either
+import io.vavr.kotlin.left
+import java.util.BitSet
+import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+internal typealias FailFastAsync<ValidatableT, FailureT> =
+  (ValidatableT) -> CompletableFuture<Optional<FailureT>>
+
+internal typealias FailFastForEachAsync<ValidatableT, FailureT> =
+  (Collection<ValidatableT?>) -> CompletableFuture<List<Either<FailureT?, ValidatableT?>>>
+
+internal typealias FailFastForAnyWithPairAsync<ValidatableT, FailureT, PairT> =
+  (Collection<ValidatableT?>) -> CompletableFuture<Optional<Tuple2<PairT?, FailureT?>>>
+
+/**
+ * Validates with the `plan` on the `executor`, and then, if valid, with the `asyncValidators` one
+ * after the other, until the first failure.
+ */
+@JvmSynthetic
+internal fun <ValidatableT, FailureT : Any> failFastAsync(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+  executor: Executor,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastAsync<ValidatableT, FailureT> = { validatable: ValidatableT ->
+  CompletableFuture.supplyAsync({ failFast(plan, throwableMapper)(validatable) }, executor)
+    .thenCompose { failure ->
+      if (failure.isPresent) {
+        CompletableFuture.completedFuture(failure)
+      } else {
+        findFirstFailureAsync(validatable, asyncValidators, executor, throwableMapper).thenApply {
+          Optional.ofNullable<FailureT>(it)
+        }
+      }
+    }
+}
+
+/**
+ * Validates the batch with the `plan` on the `executor`, and then its valid members concurrently,
+ * each with the `asyncValidators` one after the other, until its first failure. At most
+ * `maxConcurrency` members are validated at a time. Results are in the same order as the input.
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <ValidatableT, FailureT> failFastForEachAsync(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+  executor: Executor,
+  maxConcurrency: Int,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastForEachAsync<ValidatableT, FailureT> {
+  require(maxConcurrency > 0) { "maxConcurrency must be positive, but was $maxConcurrency" }
+  return { validatables: Collection<ValidatableT?> ->
+    CompletableFuture.supplyAsync(
+        { failFastForEach(plan, failureForNullValidatable, throwableMapper)(validatables) },
+        executor
+      )
+      .thenCompose { results ->
+        val asyncResults = ArrayList(results)
+        val validIndices = results.indices.filter { results[it].isRight }
+        forEachAsync(validIndices.size, maxConcurrency, executor) { position ->
+            val index = validIndices[position]
+            findFirstFailureAsync(
+                results[index].get() as ValidatableT,
+                asyncValidators,
+                executor,
+                throwableMapper
+              )
+              .thenAccept { failure ->
+                if (failure != null) {
+                  asyncResults[index] = left<FailureT?, ValidatableT?>(failure)
+                }
+              }
+          }
+          .thenApply { asyncResults.toList() }
+      }
+  }
+}
+
+/**
+ * Validates the batch with the `plan` on the `executor`, and then, if valid, its members
+ * concurrently with the `asyncValidators`, at most `maxConcurrency` at a time, in the order of the
+ * input. Once a member fails, no member after it is started, and members after it fire no more
+ * async validators. Completes with the failure of the member with the lowest index, once all
+ * members before it are validated, so the failure is the same as that of the blocking strategies.
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <ValidatableT, FailureT, PairT> failFastForAnyAsync(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+  executor: Executor,
+  maxConcurrency: Int,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?,
+  pairForInvalidMapper: (ValidatableT?) -> PairT? = { null }
+): FailFastForAnyWithPairAsync<ValidatableT, FailureT, PairT> {
+  require(maxConcurrency > 0) { "maxConcurrency must be positive, but was $maxConcurrency" }
+  return { validatables ->
+    CompletableFuture.supplyAsync(
+        {
+          failFastForAny(plan, failureForNullValidatable, throwableMapper, pairForInvalidMapper)(
+            validatables
+          )
+        },
+        executor
+      )
+      .thenCompose { failure ->
+        val members = validatables as? List<ValidatableT?> ?: validatables.toList()
+        if (failure.isPresent || members.isEmpty()) {
+          CompletableFuture.completedFuture(failure)
+        } else {
+          val lowestFailure = LowestIndexFailure<FailureT?>(members.size)
+          forEachAsync(
+              members.size,
+              maxConcurrency,
+              executor,
+              shouldStart = { index -> index < lowestFailure.index }
+            ) { index ->
+              findFirstFailureAsync(
+                  members[index] as ValidatableT,
+                  asyncValidators,
+                  executor,
+                  throwableMapper,
+                  shouldStop = { lowestFailure.index < index }
+                )
+                .handle<Void?> { memberFailure, throwable ->
+                  lowestFailure.resolve(
+                    index,
+                    if (throwable == null) Result.success(memberFailure)
+                    else Result.failure(unwrap(throwable))
+                  )
+                  null
+                }
+            }
+            .whenComplete { _, throwable ->
+              if (throwable != null) {
+                lowestFailure.result.completeExceptionally(throwable)
+              }
+            }
+          lowestFailure.result.thenApply { lowest ->
+            if (lowest == null) {
+              Optional.empty<Tuple2<PairT?, FailureT?>>()
+            } else {
+              val (index, memberFailure) = lowest
+              val pair: PairT? = pairForInvalidMapper(members[index])
+              // Rethrows, if it's an exception
+              Optional.of(Tuple.of(pair, memberFailure.getOrThrow()))
+            }
+          }
+        }
+      }
+  }
+}
+
+/**
+ * Failure of the member with the lowest index, known once that member and all members before it
+ * are resolved, even if members after it completed first.
+ */
+private class LowestIndexFailure<FailureT>(private val size: Int) {
+  private val resolved = BitSet(size)
+  private var resolvedPrefix = 0
+  private var failure: Result<FailureT>? = null
+
+  /** Index of the lowest member failed so far, or [Int.MAX_VALUE] if there is none. */
+  @Volatile
+  var index = Int.MAX_VALUE
+    private set
+
+  /** Completes with the index and failure or exception of that member, or `null` if none fail. */
+  val result = CompletableFuture<Pair<Int, Result<FailureT>>?>()
+
+  /** @param memberFailure `null` if the member is valid, or the exception validating it threw. */
+  @Synchronized
+  fun resolve(memberIndex: Int, memberFailure: Result<FailureT>) {
+    resolved.set(memberIndex)
+    if ((memberFailure.isFailure || memberFailure.getOrNull() != null) && memberIndex < index) {
+      failure = memberFailure
+      index = memberIndex
+    }
+    while (resolvedPrefix < size && resolved[resolvedPrefix]) {
+      resolvedPrefix++
+    }
+    if (index < resolvedPrefix) {
+      result.complete(Pair(index, failure!!))
+    } else if (resolvedPrefix == size) {
+      result.complete(null)
+    }
+  }
+}
+
+/**
+ * Starts `start` for the indices `0 until size` in order, with at most `maxConcurrency` of the
+ * futures it returns pending at a time, starting the next index as one completes, on the
+ * `executor`. No more indices are started once `shouldStart` is `false` for one, or one completes
+ * exceptionally.
+ *
+ * @return Future completed once the started futures are, exceptionally with the first exception
+ *   any of them completed with.
+ */
+private fun forEachAsync(
+  size: Int,
+  maxConcurrency: Int,
+  executor: Executor,
+  shouldStart: (Int) -> Boolean = { true },
+  start: (Int) -> CompletableFuture<Void?>
+): CompletableFuture<Void?> {
+  val done = CompletableFuture<Void?>()
+  val nextIndex = AtomicInteger()
+  val firstException = AtomicReference<Throwable>()
+  val lanes = minOf(size, maxConcurrency)
+  val runningLanes = AtomicInteger(lanes)
+  fun startNext() {
+    val index = nextIndex.getAndIncrement()
+    if (index >= size || firstException.get() != null || !shouldStart(index)) {
+      if (runningLanes.decrementAndGet() == 0) {
+        firstException.get()?.let { done.completeExceptionally(it) } ?: done.complete(null)
+      }
+      return
+    }
+    runCatching { start(index) }
+      .getOrElse { CompletableFuture.failedFuture(it) }
+      .whenCompleteAsync(
+        { _, throwable ->
+          if (throwable != null) {
+            firstException.compareAndSet(null, unwrap(throwable))
+          }
+          startNext()
+        },
+        executor
+      )
+  }
+  if (lanes == 0) {
+    done.complete(null)
+  } else {
+    repeat(lanes) { startNext() }
+  }
+  return done
+}
+
+/**
+ * Fires `asyncValidators` on the `validatable` one after the other, each after the one before
+ * completes valid, with continuations on the `executor`. An exception, thrown or completed with, is
+ * mapped to a failure with `throwableMapper`.
+ *
+ * @param shouldStop Checked before firing each validator, to stop early, e.g., when another member
+ *   has failed.
+ * @return Future of the first failure, or `null` if there is none or it stopped early.
+ */
+@JvmSynthetic
+internal fun <ValidatableT, FailureT> findFirstFailureAsync(
+  validatable: ValidatableT,
+  asyncValidators: List<AsyncValidator<ValidatableT, FailureT?>>,
+  executor: Executor,
+  throwableMapper: (Throwable) -> FailureT?,
+  shouldStop: () -> Boolean = { false }
+): CompletableFuture<FailureT?> {
+  fun fireFrom(index: Int): CompletableFuture<FailureT?> {
+    if (index == asyncValidators.size || shouldStop()) {
+      return CompletableFuture.completedFuture(null)
+    }
+    return fireAsyncValidator(validatable, asyncValidators[index], throwableMapper)
+      .thenComposeAsync(
+        { failure ->
+          if (failure == null) fireFrom(index + 1) else CompletableFuture.completedFuture(failure)
+        },
+        executor
+      )
+  }
+  return fireFrom(0)
+}
+
+private fun <ValidatableT, FailureT> fireAsyncValidator(
+  validatable: ValidatableT,
+  asyncValidator: AsyncValidator<ValidatableT, FailureT?>,
+  throwableMapper: (Throwable) -> FailureT?
+): CompletableFuture<FailureT?> =
+  runCatching { asyncValidator.apply(validatable).toCompletableFuture() }
+    .getOrElse { CompletableFuture.failedFuture<FailureT?>(it) }
+    .handle { failure, throwable ->
+      if (throwable == null) failure else throwableMapper(unwrap(throwable))
+    }
+
+private fun unwrap(throwable: Throwable): Throwable =
+  (throwable as? CompletionException)?.cause ?: throwable
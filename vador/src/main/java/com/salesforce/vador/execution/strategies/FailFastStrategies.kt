@@ -10,14 +10,23 @@ package com.salesforce.vador.execution.strategies
 import com.salesforce.vador.config.BatchOfBatch1ValidationConfig
 import com.salesforce.vador.config.ValidationConfig
 import com.salesforce.vador.config.base.BaseBatchValidationConfig
-import com.salesforce.vador.config.base.BaseValidationConfig
+import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_ANY
+import com.salesforce.vador.config.base.BatchExecutionStrategy.FAIL_FAST_FOR_EACH
+import com.salesforce.vador.config.base.ExecutionStrategy.FAIL_FAST
 import com.salesforce.vador.config.container.ContainerValidationConfig
 import com.salesforce.vador.config.container.ContainerValidationConfigWith2Levels
-import com.salesforce.vador.execution.strategies.util.configToValidators
+import com.salesforce.vador.execution.listener.observePlan
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.execution.strategies.util.fireBatchValidators
 import com.salesforce.vador.execution.strategies.util.findAndFilterInvalids
+import com.salesforce.vador.execution.strategies.util.findFirstBatchFailure
 import com.salesforce.vador.execution.strategies.util.findFirstFailure
 import com.salesforce.vador.execution.strategies.util.findFirstInvalid
+import com.salesforce.vador.execution.strategies.util.scanForInvalids
 import com.salesforce.vador.execution.strategies.util.validateBatchSize
+import com.salesforce.vador.types.BatchResult
+import com.salesforce.vador.types.OnInvalid
+import com.salesforce.vador.types.OnValid
 import com.salesforce.vador.types.failures.FFABatchOfBatchFailureWithPair
 import com.salesforce.vador.types.failures.FFEBatchOfBatchFailure
 import io.vavr.Tuple
@@ -35,6 +44,12 @@ internal typealias FailFast<ValidatableT, FailureT> = (ValidatableT) -> Optional
 internal typealias FailFastForEach<ValidatableT, FailureT> =
   (Collection<ValidatableT?>) -> List<Either<FailureT?, ValidatableT?>>
 
+internal typealias FailFastForEachToBatchResult<ValidatableT, FailureT> =
+  (Collection<ValidatableT?>) -> BatchResult<ValidatableT, FailureT>
+
+internal typealias FailFastForEachWithCallbacks<ValidatableT, FailureT> =
+  (Collection<ValidatableT?>, OnValid<ValidatableT>, OnInvalid<ValidatableT, FailureT>) -> Unit
+
 internal typealias FailFastForEachBatchOfBatch1<ValidatableT, FailureT> =
   (Collection<ValidatableT?>) -> List<Either<FFEBatchOfBatchFailure<FailureT?>, ValidatableT?>>
 
@@ -54,20 +69,30 @@ internal typealias FailFastForAnyBatchOfBatch1WithPair<
 internal fun <ValidatableT, FailureT : Any> failFast(
   validationConfig: ValidationConfig<ValidatableT, FailureT?>,
   throwableMapper: (Throwable) -> FailureT?
+): FailFast<ValidatableT, FailureT> =
+  failFast(CompiledValidationPlan.of(validationConfig), throwableMapper)
+
+@JvmSynthetic
+internal fun <ValidatableT, FailureT : Any> failFast(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  throwableMapper: (Throwable) -> FailureT?
 ): FailFast<ValidatableT, FailureT> = { validatable: ValidatableT ->
-  findFirstFailureRecursively(validatable, validationConfig, throwableMapper).toFailureOptional()
+  observePlan(plan.listener, FAIL_FAST, 1, { if (it.isPresent) 1 else 0 }) {
+    findFirstFailureRecursively(validatable, plan, throwableMapper).toFailureOptional()
+  }
 }
 
-private fun <ValidatableT, FailureT : Any> findFirstFailureRecursively(
-  validatable: ValidatableT,
-  validationConfig: BaseValidationConfig<ValidatableT, FailureT?>,
+@JvmSynthetic
+internal fun <ValidatableT, FailureT> findFirstFailureRecursively(
+  validatable: ValidatableT?,
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
   throwableMapper: (Throwable) -> FailureT?
 ): Either<FailureT?, ValidatableT?>? =
-  findFirstFailure(right(validatable), configToValidators(validationConfig), throwableMapper)
-    ?: validationConfig.withRecursiveMapper
+  findFirstFailure(right(validatable), plan, throwableMapper)
+    ?: plan.recursiveMapper
       ?.apply(validatable)
       ?.asSequence()
-      ?.map { findFirstFailureRecursively(it, validationConfig, throwableMapper) }
+      ?.map { findFirstFailureRecursively(it, plan, throwableMapper) }
       ?.filterNotNull()
       ?.firstOrNull()
 
@@ -86,13 +111,122 @@ internal fun <FailureT, ValidatableT> failFastForEach(
   batchValidationConfig: BaseBatchValidationConfig<ValidatableT, FailureT?>,
   failureForNullValidatable: FailureT?,
   throwableMapper: (Throwable) -> FailureT?
+): FailFastForEach<ValidatableT, FailureT> =
+  failFastForEach(
+    CompiledValidationPlan.of(batchValidationConfig),
+    failureForNullValidatable,
+    throwableMapper
+  )
+
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> failFastForEach(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
 ): FailFastForEach<ValidatableT, FailureT> = { validatables: Collection<ValidatableT?> ->
-  findAndFilterInvalids(
-      validatables,
-      failureForNullValidatable,
-      batchValidationConfig.findAndFilterDuplicatesConfigs
-    )
-    .map { findFirstFailure(it, configToValidators(batchValidationConfig), throwableMapper) ?: it }
+  observePlan(
+    plan.listener,
+    FAIL_FAST_FOR_EACH,
+    validatables.size,
+    { results -> results.count { it.isLeft } }
+  ) {
+    findAndFilterInvalids(validatables, failureForNullValidatable, plan.filterDuplicatesConfigs)
+      .mapTo(ArrayList<Either<FailureT?, ValidatableT?>>(validatables.size)) {
+        findFirstFailure(it, plan, throwableMapper) ?: it
+      }
+      .also { fireBatchValidators(it, plan.batchValidators, throwableMapper) }
+  }
+}
+
+/**
+ * Same as [failFastForEach], but with results in a [BatchResult], so no `Either` is retained per
+ * member.
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <FailureT, ValidatableT> failFastForEachToBatchResult(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastForEachToBatchResult<ValidatableT, FailureT> =
+  { validatables: Collection<ValidatableT?> ->
+    observePlan(plan.listener, FAIL_FAST_FOR_EACH, validatables.size, { it.invalidCount }) {
+      val scan =
+        scanForInvalids(validatables, failureForNullValidatable, plan.filterDuplicatesConfigs)
+      val members =
+        if (scan.filteredOut.isEmpty) {
+          validatables as? List<ValidatableT?> ?: validatables.toList()
+        } else {
+          validatables.filterIndexed { index, _ -> !scan.filteredOut[index] }
+        }
+      val result = BatchResult<ValidatableT, FailureT>(members)
+      var memberIndex = 0
+      validatables.forEachIndexed { index, validatable ->
+        if (scan.filteredOut[index]) {
+          return@forEachIndexed
+        }
+        if (scan.isInvalid(index)) {
+          result.failIfValid(memberIndex, scan.failureByIndex[index])
+        } else {
+          findFirstFailure(right<FailureT?, ValidatableT?>(validatable), plan, throwableMapper)
+            ?.let { result.failIfValid(memberIndex, it.left) }
+        }
+        memberIndex++
+      }
+      fireBatchValidators(result, plan.batchValidators, throwableMapper)
+      result
+    }
+  }
+
+/**
+ * Same as [failFastForEach], but pushing each result to `onValid` or `onInvalid` with the member's
+ * index in `validatables`, instead of collecting results. Members filtered out as duplicates are
+ * skipped. Without batch validators, each result is pushed as soon as the member is validated.
+ * Otherwise, results are pushed after batch validators are fired, as they can fail any valid
+ * member. Either way, results are pushed in the order of `validatables`.
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <FailureT, ValidatableT> failFastForEachWithCallbacks(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastForEachWithCallbacks<ValidatableT, FailureT> = { validatables, onValid, onInvalid ->
+  observePlan(plan.listener, FAIL_FAST_FOR_EACH, validatables.size, { it }) {
+    val scan =
+      scanForInvalids(validatables, failureForNullValidatable, plan.filterDuplicatesConfigs)
+    var invalidCount = 0
+    val push = { index: Int, validatable: ValidatableT? ->
+      if (scan.isInvalid(index)) {
+        invalidCount++
+        onInvalid.accept(index, validatable, scan.failureByIndex[index])
+      } else {
+        onValid.accept(index, validatable)
+      }
+    }
+    val pushNow = plan.batchValidators.isEmpty()
+    validatables.forEachIndexed { index, validatable ->
+      if (!scan.filteredOut[index]) {
+        if (!scan.isInvalid(index)) {
+          findFirstFailure(right<FailureT?, ValidatableT?>(validatable), plan, throwableMapper)
+            ?.let { scan.failIfValid(index, it.left) }
+        }
+        if (pushNow) {
+          push(index, validatable)
+        }
+      }
+    }
+    if (!pushNow) {
+      val members = validatables as? List<ValidatableT?> ?: validatables.toList()
+      fireBatchValidators(members, scan, plan.batchValidators, throwableMapper)
+      members.forEachIndexed { index, validatable ->
+        if (!scan.filteredOut[index]) {
+          push(index, validatable)
+        }
+      }
+    }
+    invalidCount
+  }
 }
 
 @JvmSynthetic
@@ -101,21 +235,21 @@ internal fun <ContainerValidatableT, MemberValidatableT, FailureT> failFastForEa
     BatchOfBatch1ValidationConfig<ContainerValidatableT, MemberValidatableT, FailureT?>,
   failureForNullValidatable: FailureT?,
   throwableMapper: (Throwable) -> FailureT?
-): FailFastForEachBatchOfBatch1<ContainerValidatableT, FailureT> =
-  { containerValidatables: Collection<ContainerValidatableT?> ->
-    failFastForEach(batchOfBatch1ValidationConfig, failureForNullValidatable, throwableMapper)(
-        containerValidatables
-      )
+): FailFastForEachBatchOfBatch1<ContainerValidatableT, FailureT> {
+  val failFastForEachContainer =
+    failFastForEach(batchOfBatch1ValidationConfig, failureForNullValidatable, throwableMapper)
+  val failFastForEachMember =
+    failFastForEach(
+      batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._2,
+      failureForNullValidatable,
+      throwableMapper
+    )
+  return { containerValidatables: Collection<ContainerValidatableT?> ->
+    failFastForEachContainer(containerValidatables)
       .map { validContainer: Either<FailureT?, ContainerValidatableT?> ->
         validContainer
           .map(batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._1)
-          .map { members: Collection<MemberValidatableT> ->
-            failFastForEach(
-              batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._2,
-              failureForNullValidatable,
-              throwableMapper
-            )(members)
-          }
+          .map { members: Collection<MemberValidatableT> -> failFastForEachMember(members) }
           .map { memberResults: List<Either<FailureT?, MemberValidatableT?>> ->
             memberResults.map { it.flatMap { validContainer } }
           }
@@ -136,6 +270,7 @@ internal fun <ContainerValidatableT, MemberValidatableT, FailureT> failFastForEa
           .mapLeft { FFEBatchOfBatchFailure(it) }
       }
   }
+}
 
 @JvmSynthetic
 internal fun <ContainerValidatableT, MemberValidatableT, FailureT> failFastForAnyBatchOfBatch1(
@@ -171,32 +306,37 @@ internal fun <
   memberPairForInvalidMapper: (MemberValidatableT?) -> MemberPairT? = { null }
 ): FailFastForAnyBatchOfBatch1WithPair<
   ContainerValidatableT, FailureT, ContainerPairT, MemberPairT
-> = { containerValidatables: Collection<ContainerValidatableT?> ->
-  failFastForAny(
+> {
+  val failFastForAnyContainer =
+    failFastForAny(
       batchOfBatch1ValidationConfig,
       failureForNullValidatable,
       throwableMapper,
       containerPairForInvalidMapper
-    )(containerValidatables)
-    .map { FFABatchOfBatchFailureWithPair<ContainerPairT?, MemberPairT?, FailureT?>(left(it)) }
-    .or {
-      containerValidatables
-        .asSequence()
-        .map { batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._1.apply(it) }
-        .map { members: Collection<MemberValidatableT> ->
-          failFastForAny(
-              batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._2,
-              failureForNullValidatable,
-              throwableMapper,
-              memberPairForInvalidMapper
-            )(members)
-            .map {
+    )
+  val failFastForAnyMember =
+    failFastForAny(
+      batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._2,
+      failureForNullValidatable,
+      throwableMapper,
+      memberPairForInvalidMapper
+    )
+  return { containerValidatables: Collection<ContainerValidatableT?> ->
+    failFastForAnyContainer(containerValidatables)
+      .map { FFABatchOfBatchFailureWithPair<ContainerPairT?, MemberPairT?, FailureT?>(left(it)) }
+      .or {
+        containerValidatables
+          .asSequence()
+          .map { batchOfBatch1ValidationConfig.withMemberBatchValidationConfig._1.apply(it) }
+          .map { members: Collection<MemberValidatableT> ->
+            failFastForAnyMember(members).map {
               FFABatchOfBatchFailureWithPair<ContainerPairT?, MemberPairT?, FailureT?>(right(it))
             }
-        }
-        .firstOrNull { it.isPresent }
-        ?: Optional.empty()
-    }
+          }
+          .firstOrNull { it.isPresent }
+          ?: Optional.empty()
+      }
+  }
 }
 
 // TODO 13/05/21 gopala.akshintala: Reconsider any advantage of having this as a HOF
@@ -220,23 +360,45 @@ internal fun <ValidatableT, FailureT, PairT> failFastForAny(
   failureForNullValidatable: FailureT?,
   throwableMapper: (Throwable) -> FailureT?,
   pairForInvalidMapper: (ValidatableT?) -> PairT? = { null }
+): FailFastForAnyWithPair<ValidatableT, FailureT, PairT> =
+  failFastForAny(
+    CompiledValidationPlan.of(batchValidationConfig),
+    failureForNullValidatable,
+    throwableMapper,
+    pairForInvalidMapper
+  )
+
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <ValidatableT, FailureT, PairT> failFastForAny(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?,
+  pairForInvalidMapper: (ValidatableT?) -> PairT? = { null }
 ): FailFastForAnyWithPair<ValidatableT, FailureT, PairT> = { validatables ->
-  findFirstInvalid(
-      validatables,
-      batchValidationConfig.findAndFilterDuplicatesConfigs,
-      failureForNullValidatable,
-      pairForInvalidMapper
-    )
-    .or {
-      validatables
-        .asSequence()
-        .map { validatable ->
-          findFirstFailureRecursively(validatable, batchValidationConfig, throwableMapper)
-            ?.mapLeft { failure -> Tuple.of(pairForInvalidMapper(validatable), failure) }
-        }
-        .firstOrNull { it?.isLeft == true }
-        .toFailureWithPairOptional()
-    }
+  observePlan(
+    plan.listener,
+    FAIL_FAST_FOR_ANY,
+    validatables.size,
+    { if (it.isPresent) 1 else 0 }
+  ) {
+    findFirstInvalid(
+        validatables,
+        plan.filterDuplicatesConfigs,
+        failureForNullValidatable,
+        pairForInvalidMapper
+      )
+      .or {
+        val members = validatables as? List<ValidatableT?> ?: validatables.toList()
+        findFirstBatchFailure(
+            members,
+            findFirstFailureIndexed(members, plan, throwableMapper),
+            plan.batchValidators,
+            throwableMapper
+          )
+          .toFailureWithPairOptional(members, pairForInvalidMapper)
+      }
+  }
 }
 
 @JvmSynthetic
@@ -278,8 +440,28 @@ private fun <FailureT : Any> Either<FailureT?, *>?.toFailureOptional(): Optional
   return if (swapped.isEmpty) Optional.empty() else Optional.ofNullable(swapped.get())
 }
 
-private fun <FailureT, PairT> Either<Tuple2<PairT?, FailureT?>, *>?.toFailureWithPairOptional():
-  Optional<Tuple2<PairT?, FailureT?>> {
-  val swapped = this?.swap() ?: return Optional.empty()
-  return if (swapped.isEmpty) Optional.empty() else Optional.ofNullable(swapped.get())
+/** Finds the first member failed by the per-member validators, along with its index. */
+private fun <ValidatableT, FailureT> findFirstFailureIndexed(
+  validatables: List<ValidatableT?>,
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  throwableMapper: (Throwable) -> FailureT?
+): Pair<Int, FailureT?>? {
+  validatables.forEachIndexed { index, validatable ->
+    val result = findFirstFailureRecursively(validatable, plan, throwableMapper)
+    if (result?.isLeft == true) {
+      return Pair(index, result.left)
+    }
+  }
+  return null
 }
+
+@JvmSynthetic
+internal fun <ValidatableT, FailureT, PairT> Pair<Int, FailureT?>?.toFailureWithPairOptional(
+  validatables: List<ValidatableT?>,
+  pairForInvalidMapper: (ValidatableT?) -> PairT?
+): Optional<Tuple2<PairT?, FailureT?>> =
+  if (this == null) {
+    Optional.empty()
+  } else {
+    Optional.of(Tuple.of(pairForInvalidMapper(validatables[first]), second))
+  }
@@ -0,0 +1,150 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.strategies
+
+import com.salesforce.vador.config.base.BatchExecutionStrategy
+import com.salesforce.vador.execution.listener.observePlan
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.execution.strategies.util.ChunkRunner
+import com.salesforce.vador.execution.strategies.util.fireBatchValidators
+import com.salesforce.vador.execution.strategies.util.findAndFilterInvalids
+import com.salesforce.vador.execution.strategies.util.findFirstBatchFailure
+import com.salesforce.vador.execution.strategies.util.findFirstFailure
+import com.salesforce.vador.execution.strategies.util.findFirstInvalid
+import io.vavr.control.Either
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Batch + Simple + Config, with members validated in parallel in chunks run by `runChunks`.
+ * Duplicate filtering runs first on the caller thread, as it needs the whole batch. Results are in
+ * the same order as the input, same as [failFastForEach].
+ *
+ * @param plan
+ * @param runChunks
+ * @param executionStrategy Reported to listeners.
+ * @param failureForNullValidatable
+ * @param throwableMapper
+ * @param <FailureT>
+ * @param <ValidatableT>
+ * @return
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <FailureT, ValidatableT> failFastForEachInParallel(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  runChunks: ChunkRunner,
+  executionStrategy: BatchExecutionStrategy,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastForEach<ValidatableT, FailureT> = { validatables: Collection<ValidatableT?> ->
+  observePlan(
+    plan.listener,
+    executionStrategy,
+    validatables.size,
+    { results -> results.count { it.isLeft } }
+  ) {
+    val filteredValidatables =
+      findAndFilterInvalids(validatables, failureForNullValidatable, plan.filterDuplicatesConfigs)
+    val results = arrayOfNulls<Either<FailureT?, ValidatableT?>>(filteredValidatables.size)
+    runChunks(results.size, { false }) { chunk ->
+      for (index in chunk) {
+        val validatable = filteredValidatables[index]
+        results[index] = findFirstFailure(validatable, plan, throwableMapper) ?: validatable
+      }
+    }
+    val validated = (results as Array<Either<FailureT?, ValidatableT?>>).asList()
+    if (plan.batchValidators.isEmpty()) {
+      validated
+    } else {
+      validated.toMutableList().also {
+        fireBatchValidators(it, plan.batchValidators, throwableMapper)
+      }
+    }
+  }
+}
+
+/**
+ * Same as [failFastForAny], with members validated in chunks run by `runChunks`. Once a worker
+ * finds a failure, all workers skip members past it, as they can't be the first failure. Members
+ * before it are still validated, so the failure reported is the one with the lowest index, same as
+ * in sequential mode. An exception is treated like a failure at its index, and rethrown only if
+ * it's the first.
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <ValidatableT, FailureT, PairT> failFastForAnyInParallel(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  runChunks: ChunkRunner,
+  executionStrategy: BatchExecutionStrategy,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?,
+  pairForInvalidMapper: (ValidatableT?) -> PairT? = { null }
+): FailFastForAnyWithPair<ValidatableT, FailureT, PairT> = { validatables ->
+  observePlan(
+    plan.listener,
+    executionStrategy,
+    validatables.size,
+    { if (it.isPresent) 1 else 0 }
+  ) {
+    findFirstInvalid(
+        validatables,
+        plan.filterDuplicatesConfigs,
+        failureForNullValidatable,
+        pairForInvalidMapper
+      )
+      .or {
+        val members = validatables as? List<ValidatableT?> ?: validatables.toList()
+        val firstFailure = findFirstFailureInParallel(members, plan, runChunks, throwableMapper)
+        val firstBatchFailure =
+          findFirstBatchFailure(
+            members,
+            firstFailure?.let { Pair(it.first, it.second.getOrNull()) },
+            plan.batchValidators,
+            throwableMapper
+          )
+        if (firstFailure != null && firstBatchFailure?.first == firstFailure.first) {
+          firstFailure.second.getOrThrow() // Rethrows, if it's an exception
+        }
+        firstBatchFailure.toFailureWithPairOptional(members, pairForInvalidMapper)
+      }
+  }
+}
+
+/**
+ * @return Index of the first member failed by the per-member validators, along with its failure,
+ *   or the exception thrown while validating it.
+ */
+private fun <ValidatableT, FailureT> findFirstFailureInParallel(
+  validatables: List<ValidatableT?>,
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  runChunks: ChunkRunner,
+  throwableMapper: (Throwable) -> FailureT?
+): Pair<Int, Result<FailureT?>>? {
+  val firstFailureIndex = AtomicInteger(Int.MAX_VALUE)
+  // At most one entry per chunk, as a worker stops its chunk on the first failure.
+  val failureByIndex = ConcurrentHashMap<Int, Result<FailureT?>>()
+  runChunks(validatables.size, { index -> index > firstFailureIndex.get() }) { chunk ->
+    for (index in chunk) {
+      if (index > firstFailureIndex.get()) {
+        break
+      }
+      val result = runCatching {
+        findFirstFailureRecursively(validatables[index], plan, throwableMapper)
+      }
+      val failure = result.getOrNull()
+      if (result.isFailure || failure?.isLeft == true) {
+        failureByIndex[index] = result.map { failure?.left }
+        firstFailureIndex.accumulateAndGet(index) { current, found -> minOf(current, found) }
+        break
+      }
+    }
+  }
+  val index = firstFailureIndex.get()
+  return failureByIndex[index]?.let { Pair(index, it) }
+}
@@ -0,0 +1,209 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.strategies
+
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.execution.strategies.util.findFirstFailure
+import io.vavr.control.Either
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executor
+import java.util.concurrent.Flow
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+internal typealias FailFastForEachPublisher<ValidatableT, FailureT> =
+  (Flow.Publisher<ValidatableT?>) -> Flow.Publisher<Either<FailureT?, ValidatableT?>>
+
+/**
+ * Same as [failFastForEachStreaming], but on a [Flow.Publisher]. Members are requested from
+ * upstream only while fewer than `maxConcurrency` of them are being validated or awaiting demand
+ * from downstream, so no more than that are ever buffered. Members are validated on the `executor`,
+ * and results are published in the same order as the members.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> failFastForEachPublisher(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  maxConcurrency: Int,
+  executor: Executor,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastForEachPublisher<ValidatableT, FailureT> {
+  require(plan.batchValidators.isEmpty()) {
+    "Batch validators need the whole batch, so they can't be used with a publisher"
+  }
+  require(maxConcurrency > 0) { "maxConcurrency must be positive, but was $maxConcurrency" }
+  return { validatables: Flow.Publisher<ValidatableT?> ->
+    Flow.Publisher { subscriber ->
+      validatables.subscribe(
+        ValidatingSubscriber(
+          subscriber,
+          plan,
+          maxConcurrency,
+          executor,
+          DuplicateScan(plan.filterDuplicatesConfigs, failureForNullValidatable),
+          throwableMapper
+        )
+      )
+    }
+  }
+}
+
+/**
+ * Subscribes to the members upstream and publishes their results downstream. All signals to
+ * downstream are sent from [drain], which runs on one thread at a time.
+ */
+private class ValidatingSubscriber<FailureT, ValidatableT>(
+  private val downstream: Flow.Subscriber<in Either<FailureT?, ValidatableT?>>,
+  private val plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  private val maxConcurrency: Int,
+  private val executor: Executor,
+  private val duplicateScan: DuplicateScan<FailureT, ValidatableT>,
+  private val throwableMapper: (Throwable) -> FailureT?
+) : Flow.Subscriber<ValidatableT?>, Flow.Subscription {
+  /** Results in the order of members, `null` for duplicates filtered out. */
+  private val pending =
+    ConcurrentLinkedQueue<CompletableFuture<Either<FailureT?, ValidatableT?>?>>()
+  private val pendingCount = AtomicInteger()
+  private val requestedFromUpstream = AtomicLong()
+  private val requested = AtomicLong()
+  private val drainers = AtomicInteger()
+  @Volatile private var upstream: Flow.Subscription? = null
+  @Volatile private var upstreamDone = false
+  @Volatile private var upstreamError: Throwable? = null
+  @Volatile private var invalidRequest: Throwable? = null
+  @Volatile private var terminated = false
+
+  override fun onSubscribe(subscription: Flow.Subscription) {
+    if (upstream != null) {
+      subscription.cancel()
+      return
+    }
+    upstream = subscription
+    downstream.onSubscribe(this)
+    drain()
+  }
+
+  override fun onNext(validatable: ValidatableT?) {
+    val result: CompletableFuture<Either<FailureT?, ValidatableT?>?> =
+      try {
+        val scanned = duplicateScan.findInvalid(validatable)
+        if (scanned == null || scanned.isLeft) {
+          CompletableFuture.completedFuture(scanned)
+        } else {
+          CompletableFuture.supplyAsync(
+            { findFirstFailure(scanned, plan, throwableMapper) ?: scanned },
+            executor
+          )
+        }
+      } catch (e: Throwable) {
+        CompletableFuture.failedFuture(e)
+      }
+    // Counted as pending before it's no longer counted as requested, so it's never requested twice.
+    pendingCount.incrementAndGet()
+    requestedFromUpstream.decrementAndGet()
+    pending.offer(result)
+    result.whenComplete { _, _ -> drain() }
+  }
+
+  override fun onError(throwable: Throwable) {
+    upstreamError = throwable
+    upstreamDone = true
+    drain()
+  }
+
+  override fun onComplete() {
+    upstreamDone = true
+    drain()
+  }
+
+  override fun request(n: Long) {
+    if (n <= 0) {
+      invalidRequest = IllegalArgumentException("Requested $n, but it must be positive")
+    } else {
+      requested.accumulateAndGet(n) { current, added ->
+        if (current + added < 0) Long.MAX_VALUE else current + added
+      }
+    }
+    drain()
+  }
+
+  override fun cancel() {
+    terminated = true
+    upstream?.cancel()
+  }
+
+  private fun drain() {
+    if (drainers.getAndIncrement() != 0) {
+      return
+    }
+    var missed = 1
+    while (true) {
+      if (terminated) {
+        pending.clear()
+      } else {
+        emitAndRequest()
+      }
+      missed = drainers.addAndGet(-missed)
+      if (missed == 0) {
+        return
+      }
+    }
+  }
+
+  private fun emitAndRequest() {
+    invalidRequest?.let {
+      terminate(it)
+      return
+    }
+    while (true) {
+      val head = pending.peek() ?: break
+      if (!head.isDone) {
+        break
+      }
+      val result =
+        try {
+          head.join()
+        } catch (e: CompletionException) {
+          terminate(e.cause ?: e)
+          return
+        }
+      if (result != null) {
+        if (requested.get() == 0L) {
+          break
+        }
+        downstream.onNext(result)
+        requested.decrementAndGet()
+      }
+      pending.poll()
+      pendingCount.decrementAndGet()
+    }
+    // Read before `pending`, as members are added to it before `upstreamDone` is set.
+    if (upstreamDone) {
+      if (pending.isEmpty()) {
+        terminated = true
+        val error = upstreamError
+        if (error == null) downstream.onComplete() else downstream.onError(error)
+      }
+      return
+    }
+    val toRequest = maxConcurrency - pendingCount.get() - requestedFromUpstream.get()
+    if (toRequest > 0) {
+      requestedFromUpstream.addAndGet(toRequest)
+      upstream?.request(toRequest)
+    }
+  }
+
+  private fun terminate(throwable: Throwable) {
+    terminated = true
+    upstream?.cancel()
+    pending.clear()
+    downstream.onError(throwable)
+  }
+}
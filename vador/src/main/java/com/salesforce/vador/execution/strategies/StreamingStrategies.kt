@@ -0,0 +1,83 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.execution.strategies
+
+import com.salesforce.vador.config.FilterDuplicatesConfig
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
+import com.salesforce.vador.execution.strategies.util.findFirstFailure
+import io.vavr.Function1
+import io.vavr.Function1.identity
+import io.vavr.control.Either
+import io.vavr.kotlin.left
+import io.vavr.kotlin.right
+
+internal typealias FailFastForEachStreaming<ValidatableT, FailureT> =
+  (Sequence<ValidatableT?>) -> Sequence<Either<FailureT?, ValidatableT?>>
+
+/**
+ * Same as [failFastForEach], but lazily, one member at a time, so only the keys seen so far are
+ * held in memory, not the batch. As members can't be failed after they are emitted, the first
+ * member with a key is valid, and only the members after it with the same key are duplicates. Each
+ * iteration of the result starts afresh, with no keys seen.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> failFastForEachStreaming(
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  failureForNullValidatable: FailureT?,
+  throwableMapper: (Throwable) -> FailureT?
+): FailFastForEachStreaming<ValidatableT, FailureT> {
+  require(plan.batchValidators.isEmpty()) {
+    "Batch validators need the whole batch, so they can't be used with a stream"
+  }
+  return { validatables: Sequence<ValidatableT?> ->
+    Sequence {
+      val duplicateScan = DuplicateScan(plan.filterDuplicatesConfigs, failureForNullValidatable)
+      validatables
+        .mapNotNull { duplicateScan.findInvalid(it) }
+        .map { findFirstFailure(it, plan, throwableMapper) ?: it }
+        .iterator()
+    }
+  }
+}
+
+/** Keys seen so far per config, to find duplicates among members as they stream. */
+internal class DuplicateScan<FailureT, ValidatableT>(
+  private val filterDuplicatesConfigs: List<FilterDuplicatesConfig<ValidatableT, FailureT?>>,
+  private val failureForNullValidatable: FailureT?
+) {
+  private val keyMappers: List<Function1<ValidatableT, *>> =
+    filterDuplicatesConfigs.map { it.findAndFilterDuplicatesWith ?: identity<ValidatableT>() }
+  private val seenKeys = filterDuplicatesConfigs.map { HashSet<Any>() }
+
+  /**
+   * @return Member failed for being null, having a null key or a duplicate key, else the member as
+   *   valid, or `null` if it's a duplicate to be filtered out.
+   */
+  fun findInvalid(validatable: ValidatableT?): Either<FailureT?, ValidatableT?>? {
+    if (validatable == null) {
+      return left(failureForNullValidatable)
+    }
+    var result: Either<FailureT?, ValidatableT?> = right(validatable)
+    filterDuplicatesConfigs.forEachIndexed { configIndex, filterDuplicatesConfig ->
+      val key = keyMappers[configIndex].apply(validatable)
+      // Like in batches, failed members still count as seen for the configs after.
+      if (key == null) {
+        val failureForNullKeys = filterDuplicatesConfig.andFailNullKeysWith
+        if (failureForNullKeys != null && result.isRight) {
+          result = left(failureForNullKeys)
+        }
+      } else if (!seenKeys[configIndex].add(key)) {
+        val failureForDuplicates = filterDuplicatesConfig.andFailDuplicatesWith ?: return null
+        if (result.isRight) {
+          result = left(failureForDuplicates)
+        }
+      }
+    }
+    return result
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("BatchValidators")
+
+package com.salesforce.vador.execution.strategies.util
+
+import com.salesforce.vador.types.BatchResult
+import com.salesforce.vador.types.BatchValidator
+import io.vavr.control.Either
+import io.vavr.kotlin.left
+
+/**
+ * Fires `batchValidators` in order, each with the members of `results` still valid, and fails the
+ * members it fails. An exception from a batch validator fails all members it's fired with, with
+ * the failure `throwableMapper` maps it to.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> fireBatchValidators(
+  results: MutableList<Either<FailureT?, ValidatableT?>>,
+  batchValidators: List<BatchValidator<ValidatableT, FailureT?>>,
+  throwableMapper: (Throwable) -> FailureT?
+) {
+  fireBatchValidators(
+    { results.indices.filter { results[it].isRight }.toIntArray() },
+    { results[it].get() },
+    { index, failure -> results[index] = left(failure) },
+    batchValidators,
+    throwableMapper
+  )
+}
+
+/** Same as [fireBatchValidators] on a list of `Either`s, but failing members of a [BatchResult]. */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> fireBatchValidators(
+  result: BatchResult<ValidatableT, FailureT>,
+  batchValidators: List<BatchValidator<ValidatableT, FailureT?>>,
+  throwableMapper: (Throwable) -> FailureT?
+) {
+  fireBatchValidators(
+    { result.validIndices().toArray() },
+    result::validatableAt,
+    result::failIfValid,
+    batchValidators,
+    throwableMapper
+  )
+}
+
+/**
+ * Same as [fireBatchValidators] on a list of `Either`s, but on members of `validatables` not
+ * filtered out or failed in the `scan`, failing them in the `scan`.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> fireBatchValidators(
+  validatables: List<ValidatableT?>,
+  scan: InvalidsScan<FailureT>,
+  batchValidators: List<BatchValidator<ValidatableT, FailureT?>>,
+  throwableMapper: (Throwable) -> FailureT?
+) {
+  fireBatchValidators(
+    { validatables.indices.filter { !scan.filteredOut[it] && !scan.isInvalid(it) }.toIntArray() },
+    validatables::get,
+    scan::failIfValid,
+    batchValidators,
+    throwableMapper
+  )
+}
+
+private fun <FailureT, ValidatableT> fireBatchValidators(
+  validIndices: () -> IntArray,
+  validatableAt: (Int) -> ValidatableT?,
+  failIfValid: (Int, FailureT?) -> Unit,
+  batchValidators: List<BatchValidator<ValidatableT, FailureT?>>,
+  throwableMapper: (Throwable) -> FailureT?
+) {
+  for (batchValidator in batchValidators) {
+    val indices = validIndices()
+    if (indices.isEmpty()) {
+      return
+    }
+    val failureByIndex =
+      fireBatchValidator(indices.map { validatableAt(it) }, batchValidator, throwableMapper)
+    for ((index, failure) in failureByIndex) {
+      if (failure != null) {
+        failIfValid(indices[index], failure)
+      }
+    }
+  }
+}
+
+/**
+ * Finds the failure with the lowest index between `firstFailure`, found by the per-member
+ * validators, and the failures of `batchValidators`. As members after `firstFailure` can't have the
+ * first failure, batch validators are fired only with the members before it, and each batch
+ * validator only with the members before the first failure found so far.
+ *
+ * @return Index of the member failed and its failure, or `null` if all members are valid.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> findFirstBatchFailure(
+  validatables: List<ValidatableT?>,
+  firstFailure: Pair<Int, FailureT?>?,
+  batchValidators: List<BatchValidator<ValidatableT, FailureT?>>,
+  throwableMapper: (Throwable) -> FailureT?
+): Pair<Int, FailureT?>? {
+  var first = firstFailure
+  for (batchValidator in batchValidators) {
+    val end = first?.first ?: validatables.size
+    if (end == 0) {
+      break
+    }
+    val failureByIndex =
+      fireBatchValidator(validatables.subList(0, end), batchValidator, throwableMapper)
+    val firstIndex = failureByIndex.filterValues { it != null }.keys.minOrNull() ?: continue
+    first = Pair(firstIndex, failureByIndex[firstIndex])
+  }
+  return first
+}
+
+/**
+ * Fires `batchValidator` with `validatables`. An index it returns out of `validatables` is a bug in
+ * it, which is mapped with `throwableMapper` like any exception it throws.
+ */
+@Suppress("UNCHECKED_CAST")
+private fun <FailureT, ValidatableT> fireBatchValidator(
+  validatables: List<ValidatableT?>,
+  batchValidator: BatchValidator<ValidatableT, FailureT?>,
+  throwableMapper: (Throwable) -> FailureT?
+): Map<Int, FailureT?> =
+  runCatching {
+      batchValidator.apply(validatables as List<ValidatableT>).onEach { (index, _) ->
+        require(index in validatables.indices) {
+          "Batch validator $batchValidator returned index $index, " +
+            "out of the ${validatables.size} validatables it was fired with"
+        }
+      }
+    }
+    .getOrElse { throwable ->
+      val failure = throwableMapper(throwable)
+      validatables.indices.associateWith { failure }
+    }
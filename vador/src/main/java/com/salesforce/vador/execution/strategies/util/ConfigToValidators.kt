@@ -15,6 +15,7 @@ import com.salesforce.vador.config.base.BaseValidationConfig
 import com.salesforce.vador.specs.component1
 import com.salesforce.vador.specs.component2
 import com.salesforce.vador.specs.specs.base.BaseSpec
+import com.salesforce.vador.specs.specs.toPredicates
 import com.salesforce.vador.types.ValidatorEtr
 import de.cronn.reflection.util.PropertyUtils
 import de.cronn.reflection.util.TypedPropertyGetter
@@ -29,20 +30,43 @@ import java.util.function.Predicate
 internal fun <ValidatableT, FailureT> configToValidators(
   config: BaseValidationConfig<ValidatableT, FailureT>
 ): List<ValidatorEtr<ValidatableT?, FailureT?>> =
-  (toValidatorEtrs1(config.shouldHaveFieldsOrFailWith, isFieldPresent) +
-    toValidatorEtrs2(config.shouldHaveFieldsOrFailWithFn, isFieldPresent) +
-    toValidatorEtrs3(config.shouldHaveFieldOrFailWithFn, isFieldPresent) +
-    toValidatorEtrs4(config.withIdConfigs) +
-    toValidatorEtrs5(config.withFieldConfigs) +
-    config.specs.map { it.toValidator() } +
-    config.toValidatorsEtr())
+  configToIdentifiedValidators(config).map { it.second }
 
-// * NOTE gopala.akshintala 14/08/22: Using Extension functions coz, names are almost same for all
-// these
+/**
+ * Same as [configToValidators], with each validator paired with an id made of the config slot it's
+ * from and its position in that slot, like `withValidators[2]`. Specs with a `nameForTest` are
+ * identified by it. Ids are stable as long as the config is built the same way.
+ */
 @JvmSynthetic
-private fun <ValidatableT, FailureT> BaseValidationConfig<ValidatableT, FailureT>.toValidatorsEtr():
-  List<ValidatorEtr<ValidatableT?, FailureT?>> =
-  fromValidators1(withValidators) + fromValidators2(withValidator) + withValidatorEtrs
+internal fun <ValidatableT, FailureT> configToIdentifiedValidators(
+  config: BaseValidationConfig<ValidatableT, FailureT>
+): List<Pair<String, ValidatorEtr<ValidatableT?, FailureT?>>> {
+  fun identify(slot: String, validators: List<ValidatorEtr<ValidatableT?, FailureT?>>) =
+    validators.mapIndexed { index, validator -> Pair("$slot[$index]", validator) }
+
+  return identify(
+    "shouldHaveFieldsOrFailWith",
+    toValidatorEtrs1(config.shouldHaveFieldsOrFailWith, isFieldPresent)
+  ) +
+    identify(
+      "shouldHaveFieldsOrFailWithFn",
+      toValidatorEtrs2(config.shouldHaveFieldsOrFailWithFn, isFieldPresent)
+    ) +
+    identify(
+      "shouldHaveFieldOrFailWithFn",
+      toValidatorEtrs3(config.shouldHaveFieldOrFailWithFn, isFieldPresent)
+    ) +
+    identify("withIdConfigs", toValidatorEtrs4(config.withIdConfigs)) +
+    identify("withFieldConfigs", toValidatorEtrs5(config.withFieldConfigs)) +
+    config.specs.let { specs ->
+      specs.zip(toPredicates(specs)).mapIndexed { index, (spec, predicate) ->
+        Pair("withSpecs[${spec.nameForTest ?: index}]", spec.toValidator(predicate))
+      }
+    } +
+    identify("withValidators", fromValidators1(config.withValidators)) +
+    identify("withValidator", fromValidators2(config.withValidator)) +
+    identify("withValidatorEtrs", config.withValidatorEtrs.toList())
+}
 
 @JvmSynthetic
 private fun <ValidatableT, FailureT, FieldT> toValidatorEtrs1(
@@ -50,7 +74,9 @@ private fun <ValidatableT, FailureT, FieldT> toValidatorEtrs1(
   fieldValidator: (FieldT) -> Boolean
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   fieldMapperToFailure.entries.map { (fieldMapper, failure) ->
-    ValidatorEtr { it.map(fieldMapper::get).filterOrElse(fieldValidator) { failure } }
+    ValidatorEtr { validatable ->
+      validatable.map { readField(fieldMapper, it) }.filterOrElse(fieldValidator) { failure }
+    }
   }
 
 @JvmSynthetic
@@ -64,10 +90,11 @@ private fun <ValidatableT, FailureT, FieldT> toValidatorEtrs2(
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   fieldMappersToFailure?.let { (fieldMappers, failureFn) ->
     fieldMappers.map { fieldMapper ->
+      val propertyName = PropertyName(fieldMapper)
       ValidatorEtr { validatable ->
         validatable
-          .map(fieldMapper::get)
-          .filterOrElse(fieldValidator, applyFailureFn(failureFn, validatable, fieldMapper))
+          .map { readField(fieldMapper, it) }
+          .filterOrElse(fieldValidator, applyFailureFn(failureFn, validatable, propertyName))
       }
     }
   }
@@ -80,10 +107,11 @@ private fun <ValidatableT, FailureT, FieldT> toValidatorEtrs3(
   fieldValidator: (FieldT) -> Boolean
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   fieldMapperToFailure.entries.map { (fieldMapper, failureFn) ->
+    val propertyName = PropertyName(fieldMapper)
     ValidatorEtr { validatable ->
       validatable
-        .map(fieldMapper::get)
-        .filterOrElse(fieldValidator, applyFailureFn(failureFn, validatable, fieldMapper))
+        .map { readField(fieldMapper, it) }
+        .filterOrElse(fieldValidator, applyFailureFn(failureFn, validatable, propertyName))
     }
   }
 
@@ -135,11 +163,9 @@ private fun <IDT, ValidatableT, FailureT, EntityInfoT> toValidators11(
   config?.map { (tuple2, failure) ->
     val (idFieldMapper, entityInfo) = tuple2
     ValidatorEtr { validatable ->
-      validatable.map(idFieldMapper::get).filterOrElse(
-        validateId(idValidator, entityInfo, optionalId)
-      ) {
-        failure
-      }
+      validatable
+        .map { readField(idFieldMapper, it) }
+        .filterOrElse(validateId(idValidator, entityInfo, optionalId)) { failure }
     }
   }
     ?: emptyList()
@@ -154,11 +180,9 @@ private fun <IDT, ValidatableT, FailureT, EntityInfoT> toValidators111(
   config?.map { (tuple2, failure) ->
     val (idFieldMapper, entitiesInfo) = tuple2
     ValidatorEtr { validatable ->
-      validatable.map(idFieldMapper::get).filterOrElse(
-        validateId(idValidator, entitiesInfo, optionalId)
-      ) {
-        failure
-      }
+      validatable
+        .map { readField(idFieldMapper, it) }
+        .filterOrElse(validateId(idValidator, entitiesInfo, optionalId)) { failure }
     }
   }
     ?: emptyList()
@@ -174,12 +198,13 @@ private fun <IDT, ValidatableT, FailureT, EntityInfoT> toValidators12(
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   config?.let { (idFieldMapperToEntityInfo, failureFn) ->
     idFieldMapperToEntityInfo.map { (idFieldMapper, entityInfo) ->
+      val propertyName = PropertyName(idFieldMapper)
       ValidatorEtr { validatable ->
         validatable
-          .map(idFieldMapper::get)
+          .map { readField(idFieldMapper, it) }
           .filterOrElse(
             validateId(idValidator, entityInfo, optionalId),
-            applyFailureFn(failureFn, validatable, idFieldMapper)
+            applyFailureFn(failureFn, validatable, propertyName)
           )
       }
     }
@@ -198,12 +223,13 @@ private fun <IDT, ValidatableT, FailureT, EntityInfoT> toValidators121(
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   config?.let { (idFieldMapperToEntityInfo, failureFn) ->
     idFieldMapperToEntityInfo.map { (idFieldMapper, entitiesInfo) ->
+      val propertyName = PropertyName(idFieldMapper)
       ValidatorEtr { validatable ->
         validatable
-          .map(idFieldMapper::get)
+          .map { readField(idFieldMapper, it) }
           .filterOrElse(
             validateId(idValidator, entitiesInfo, optionalId),
-            applyFailureFn(failureFn, validatable, idFieldMapper)
+            applyFailureFn(failureFn, validatable, propertyName)
           )
       }
     }
@@ -222,12 +248,13 @@ private fun <IDT, ValidatableT, FailureT, EntityInfoT> toValidators13(
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   config?.map { (tuple2, failureFn) ->
     val (idFieldMapper, entityInfo) = tuple2
+    val propertyName = PropertyName(idFieldMapper)
     ValidatorEtr { validatable ->
       validatable
-        .map(idFieldMapper::get)
+        .map { readField(idFieldMapper, it) }
         .filterOrElse(
           validateId(idValidator, entityInfo, optionalId),
-          applyFailureFn(failureFn, validatable, idFieldMapper)
+          applyFailureFn(failureFn, validatable, propertyName)
         )
     }
   }
@@ -245,12 +272,13 @@ private fun <IDT, ValidatableT, FailureT, EntityInfoT> toValidators131(
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   config?.map { (tuple2, failureFn) ->
     val (idFieldMapper, entitiesInfo) = tuple2
+    val propertyName = PropertyName(idFieldMapper)
     ValidatorEtr { validatable ->
       validatable
-        .map(idFieldMapper::get)
+        .map { readField(idFieldMapper, it) }
         .filterOrElse(
           validateId(idValidator, entitiesInfo, optionalId),
-          applyFailureFn(failureFn, validatable, idFieldMapper)
+          applyFailureFn(failureFn, validatable, propertyName)
         )
     }
   }
@@ -335,10 +363,10 @@ private fun <ValidatableT, FailureT, FieldT> toFieldValidatorEtrs1(
   optionalField: Boolean = false
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   fieldMapperToFailure?.entries?.map { (fieldMapper, failure) ->
-    ValidatorEtr {
-      it.map(fieldMapper::get).filterOrElse(validateField(fieldValidator, optionalField)) {
-        failure
-      }
+    ValidatorEtr { validatable ->
+      validatable
+        .map { readField(fieldMapper, it) }
+        .filterOrElse(validateField(fieldValidator, optionalField)) { failure }
     }
   }
     ?: emptyList()
@@ -354,12 +382,13 @@ private fun <ValidatableT, FailureT, FieldT> toFieldValidatorEtrs2(
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   config?.let { (fieldMappers, failureFn) ->
     fieldMappers.map { fieldMapper ->
+      val propertyName = PropertyName(fieldMapper)
       ValidatorEtr { validatable ->
         validatable
-          .map(fieldMapper::get)
+          .map { readField(fieldMapper, it) }
           .filterOrElse(
             validateField(fieldValidator, optionalField),
-            applyFailureFn(failureFn, validatable, fieldMapper)
+            applyFailureFn(failureFn, validatable, propertyName)
           )
       }
     }
@@ -373,12 +402,13 @@ private fun <FieldT, ValidatableT, FailureT> toFieldValidatorEtrs3(
   optionalField: Boolean = false
 ): List<ValidatorEtr<ValidatableT, FailureT>> =
   config?.map { (fieldMapper, failureFn) ->
+    val propertyName = PropertyName(fieldMapper)
     ValidatorEtr { validatable ->
       validatable
-        .map(fieldMapper::get)
+        .map { readField(fieldMapper, it) }
         .filterOrElse(
           validateField(fieldValidator, optionalField),
-          applyFailureFn(failureFn, validatable, fieldMapper)
+          applyFailureFn(failureFn, validatable, propertyName)
         )
     }
   }
@@ -397,23 +427,38 @@ private fun <FailureT, ValidatableT> toValidatorEtrs5(
 private fun <ValidatableT, FailureT, FieldT> applyFailureFn(
   failureFn: Function2<String, FieldT, FailureT>?,
   validatable: Either<FailureT?, ValidatableT?>,
-  fieldMapper: TypedPropertyGetter<in ValidatableT, out FieldT>
+  propertyName: PropertyName
 ): (FieldT) -> FailureT? = { fieldValue: FieldT ->
-  failureFn?.apply(getFieldName(validatable, fieldMapper), fieldValue)
+  failureFn?.apply(getFieldName(validatable, propertyName), fieldValue)
 }
 
-private fun <ValidatableT, FailureT, FieldT> getFieldName(
+private fun <ValidatableT, FailureT> getFieldName(
   validatable: Either<FailureT?, ValidatableT?>,
-  fieldMapper: TypedPropertyGetter<in ValidatableT, out FieldT>
+  propertyName: PropertyName
 ): String =
   validatable
-    .map { PropertyUtils.getPropertyName(validatable.get(), fieldMapper) }
+    .map { propertyName.get(validatable.get()!!.javaClass) }
     .getOrElse("Validatable is on Left")
 
+/**
+ * Name of the property `fieldMapper` gets, resolved once per bean class. Resolving it proxies the
+ * bean class, so it's too costly to be done on every failure.
+ */
+private class PropertyName(private val fieldMapper: TypedPropertyGetter<*, *>) :
+  ClassValue<String>() {
+  @Suppress("UNCHECKED_CAST")
+  override fun computeValue(type: Class<*>): String =
+    PropertyUtils.getPropertyName(
+      type as Class<Any>,
+      fieldMapper as TypedPropertyGetter<Any, *>
+    )
+}
+
 @JvmSynthetic
-private fun <ValidatableT, FailureT> BaseSpec<ValidatableT, FailureT>.toValidator():
-  ValidatorEtr<ValidatableT?, FailureT?> = ValidatorEtr {
-  it.filterOrElse(toPredicate()) { validatable -> getFailure(validatable) }
+private fun <ValidatableT, FailureT> BaseSpec<ValidatableT, FailureT>.toValidator(
+  predicate: Predicate<ValidatableT?>
+): ValidatorEtr<ValidatableT?, FailureT?> = ValidatorEtr {
+  it.filterOrElse(predicate) { validatable -> getFailure(validatable) }
 }
 
 @JvmSynthetic
@@ -0,0 +1,155 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("FieldReads")
+
+package com.salesforce.vador.execution.strategies.util
+
+import de.cronn.reflection.util.TypedPropertyGetter
+import io.vavr.Function1
+import java.io.Serializable
+import java.lang.invoke.MethodHandleInfo
+import java.lang.invoke.SerializedLambda
+import java.util.concurrent.atomic.AtomicInteger
+
+/** Validatables validated before deciding if snapshots pay off for a plan. */
+private const val PROBE_SIZE = 64
+
+private val currentSnapshot = ThreadLocal<FieldSnapshot>()
+
+/**
+ * Reads the field `getter` gets from `validatable`, from the snapshot of the validatable being
+ * validated on this thread, if any, so that validators sharing a getter run it once.
+ */
+@JvmSynthetic
+internal fun <ValidatableT, FieldT> readField(
+  getter: TypedPropertyGetter<in ValidatableT, out FieldT>,
+  validatable: ValidatableT?
+): FieldT {
+  val snapshot = currentSnapshot.get()
+  return if (snapshot == null || snapshot.validatable !== validatable) {
+    getter.get(validatable)
+  } else {
+    snapshot.read(getter) { getter.get(validatable) }
+  }
+}
+
+/** Same as the [readField] with a [TypedPropertyGetter], for the getters specs are given. */
+@JvmSynthetic
+internal fun <ValidatableT, FieldT> readField(
+  getter: Function1<in ValidatableT, out FieldT>,
+  validatable: ValidatableT?
+): FieldT {
+  val snapshot = currentSnapshot.get()
+  return if (snapshot == null || snapshot.validatable !== validatable) {
+    getter.apply(validatable)
+  } else {
+    snapshot.read(getter) { getter.apply(validatable) }
+  }
+}
+
+/**
+ * Per plan, decides whether validatables are validated with a [FieldSnapshot]. The first
+ * [PROBE_SIZE] validatables are, and snapshots are kept on only if any field read was served from
+ * one, as a plan whose validators share no getter only pays for them.
+ */
+internal class FieldSnapshots {
+  private val probed = AtomicInteger()
+  private val hits = AtomicInteger()
+
+  @Volatile
+  var isActive = true
+    private set
+
+  fun <ResultT> withSnapshot(validatable: Any?, run: () -> ResultT): ResultT {
+    val snapshot = FieldSnapshot(validatable)
+    val enclosing = currentSnapshot.get()
+    currentSnapshot.set(snapshot)
+    try {
+      return run()
+    } finally {
+      if (enclosing == null) currentSnapshot.remove() else currentSnapshot.set(enclosing)
+      if (probed.get() < PROBE_SIZE) {
+        hits.addAndGet(snapshot.hits)
+        if (probed.incrementAndGet() == PROBE_SIZE && hits.get() == 0) {
+          isActive = false
+        }
+      }
+    }
+  }
+}
+
+/** Field values of a `validatable` read so far, by getter. */
+private class FieldSnapshot(val validatable: Any?) {
+  private var valueByGetter: HashMap<Any, Any?>? = null
+  var hits = 0
+    private set
+
+  @Suppress("UNCHECKED_CAST")
+  inline fun <FieldT> read(getter: Any, read: () -> FieldT): FieldT {
+    val values = valueByGetter ?: HashMap<Any, Any?>().also { valueByGetter = it }
+    val key = keyOf(getter)
+    if (values.containsKey(key)) {
+      hits++
+      return values[key] as FieldT
+    }
+    return read().also { values[key] = it }
+  }
+}
+
+private val UNRESOLVED = Any()
+
+/** Method a getter class refers to, resolved once per class. */
+private class MethodReference {
+  @Volatile var key: Any? = UNRESOLVED
+}
+
+private val methodReferences =
+  object : ClassValue<MethodReference>() {
+    override fun computeValue(type: Class<*>): MethodReference = MethodReference()
+  }
+
+/**
+ * Getters written as method references to the same method, like `Bean::getId` at two places, get
+ * the same key. Other getters are keyed by their identity.
+ */
+@JvmSynthetic
+internal fun keyOf(getter: Any): Any {
+  val methodReference = methodReferences.get(getter.javaClass)
+  var key = methodReference.key
+  if (key === UNRESOLVED) {
+    key = methodReferenceOf(getter)
+    methodReference.key = key
+  }
+  return key ?: getter
+}
+
+/**
+ * Method a serializable lambda refers to, if it's a method reference without captured arguments.
+ * Other lambdas, like `bean -> bean.getId() + 1`, aren't plain reads of a field, so they're shared
+ * only by identity.
+ */
+private fun methodReferenceOf(getter: Any): String? =
+  runCatching {
+      if (getter !is Serializable) {
+        return null
+      }
+      val writeReplace = getter.javaClass.getDeclaredMethod("writeReplace")
+      writeReplace.isAccessible = true
+      val lambda = writeReplace.invoke(getter) as? SerializedLambda ?: return null
+      val isMethodCall =
+        lambda.implMethodKind == MethodHandleInfo.REF_invokeVirtual ||
+          lambda.implMethodKind == MethodHandleInfo.REF_invokeInterface
+      if (
+        !isMethodCall || lambda.capturedArgCount != 0 || lambda.implMethodName.startsWith("lambda$")
+      ) {
+        null
+      } else {
+        "${lambda.implClass}#${lambda.implMethodName}${lambda.implMethodSignature}"
+      }
+    }
+    .getOrNull()
@@ -0,0 +1,155 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("Parallel")
+
+package com.salesforce.vador.execution.strategies.util
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.Semaphore
+import java.util.concurrent.atomic.AtomicBoolean
+
+/** Below this, splitting a batch costs more than it saves, so chunks are never made smaller. */
+private const val MIN_CHUNK_SIZE = 256
+
+/** Chunks per worker, so that a slow chunk doesn't leave the other workers idle. */
+private const val CHUNKS_PER_WORKER = 4
+
+/**
+ * Runs `action` on chunks of the indices `0 until size`, in any order and on any thread, blocking
+ * until all of them are done. Chunks starting at an index `shouldStop` holds for, by the time they
+ * are run, may be skipped. Any exception thrown by `action` is rethrown on the caller thread as-is.
+ */
+internal typealias ChunkRunner =
+  (size: Int, shouldStop: (index: Int) -> Boolean, action: (IntRange) -> Unit) -> Unit
+
+/** Runs chunks sized for the `executor`'s parallelism, for CPU-bound validators. */
+@JvmSynthetic
+internal fun inChunksOn(executor: Executor): ChunkRunner = { size, shouldStop, action ->
+  forEachChunkInParallel(size, executor) { chunk ->
+    if (!shouldStop(chunk.first)) {
+      action(chunk)
+    }
+  }
+}
+
+/**
+ * Runs each index as a chunk of its own, with at most `maxConcurrency` of them running at a time,
+ * for validators that block on I/O.
+ */
+@JvmSynthetic
+internal fun oneByOneOn(executor: Executor, maxConcurrency: Int): ChunkRunner {
+  require(maxConcurrency > 0) { "maxConcurrency must be positive, but was $maxConcurrency" }
+  return { size, shouldStop, action ->
+    forEachConcurrently(size, executor, maxConcurrency, shouldStop, action)
+  }
+}
+
+/**
+ * Splits `0 until size` into contiguous chunks and runs `action` on each chunk's indices on the
+ * `executor`, blocking until all of them are done. Small batches run on the caller thread.
+ *
+ * Any exception thrown by `action` is rethrown on the caller thread as-is.
+ */
+@JvmSynthetic
+internal fun forEachChunkInParallel(size: Int, executor: Executor, action: (IntRange) -> Unit) {
+  val chunkSize = chunkSize(size, parallelismOf(executor))
+  if (size <= chunkSize) {
+    action(0 until size)
+    return
+  }
+  joinAll(
+    (0 until size step chunkSize).map { start ->
+      CompletableFuture.runAsync({ action(start until minOf(start + chunkSize, size)) }, executor)
+    }
+  )
+}
+
+/**
+ * Runs `action` on each index on the `executor`, with at most `maxConcurrency` running at a time,
+ * blocking until all of them are done. The caller thread waits for a permit before submitting the
+ * next index, so no more than `maxConcurrency` tasks are queued on the `executor` either. Once an
+ * `action` throws, or `shouldStop` holds for the next index, no more indices are submitted.
+ */
+@JvmSynthetic
+internal fun forEachConcurrently(
+  size: Int,
+  executor: Executor,
+  maxConcurrency: Int,
+  shouldStop: (index: Int) -> Boolean,
+  action: (IntRange) -> Unit
+) {
+  if (size <= 1 || maxConcurrency == 1) {
+    action(0 until size)
+    return
+  }
+  val permits = Semaphore(maxConcurrency)
+  val failed = AtomicBoolean()
+  val tasks = ArrayList<CompletableFuture<Void>>(size)
+  for (index in 0 until size) {
+    permits.acquire()
+    if (failed.get() || shouldStop(index)) {
+      permits.release()
+      break
+    }
+    tasks +=
+      CompletableFuture.runAsync(
+        {
+          try {
+            action(index..index)
+          } catch (e: Throwable) {
+            failed.set(true)
+            throw e
+          } finally {
+            permits.release()
+          }
+        },
+        executor
+      )
+  }
+  joinAll(tasks)
+}
+
+/**
+ * Executor that starts a thread per task, virtual if the runtime supports them (Java 21+), so that
+ * tasks blocked on I/O don't hold up platform threads. On older runtimes, it falls back to a
+ * cached pool of daemon threads.
+ */
+@get:JvmSynthetic
+internal val perTaskExecutor: Executor by lazy {
+  runCatching {
+      Executors::class.java.getMethod("newVirtualThreadPerTaskExecutor").invoke(null) as Executor
+    }
+    .getOrElse {
+      Executors.newCachedThreadPool { runnable ->
+        Thread(runnable, "vador-per-task").apply { isDaemon = true }
+      }
+    }
+}
+
+private fun joinAll(tasks: List<CompletableFuture<Void>>) {
+  try {
+    CompletableFuture.allOf(*tasks.toTypedArray()).join()
+  } catch (e: CompletionException) {
+    throw e.cause ?: e
+  }
+}
+
+private fun chunkSize(size: Int, parallelism: Int): Int =
+  maxOf(MIN_CHUNK_SIZE, ceilDiv(size, parallelism * CHUNKS_PER_WORKER))
+
+private fun parallelismOf(executor: Executor): Int =
+  when (executor) {
+    is ForkJoinPool -> executor.parallelism
+    else -> Runtime.getRuntime().availableProcessors()
+  }
+
+private fun ceilDiv(dividend: Int, divisor: Int): Int = (dividend + divisor - 1) / divisor
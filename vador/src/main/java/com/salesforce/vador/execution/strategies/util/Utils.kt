@@ -9,10 +9,19 @@
 
 package com.salesforce.vador.execution.strategies.util
 
+import com.salesforce.vador.config.FilterDuplicatesConfig
 import com.salesforce.vador.config.FilterDuplicatesConfig.FilterDuplicatesConfigBuilder
 import com.salesforce.vador.config.base.BaseContainerValidationConfig
 import com.salesforce.vador.config.container.ContainerValidationConfig
 import com.salesforce.vador.config.container.ContainerValidationConfigWith2Levels
+import com.salesforce.vador.execution.jfr.DuplicateScanEvent
+import com.salesforce.vador.execution.jfr.ValidatorInvocationEvent
+import com.salesforce.vador.execution.jfr.duplicateScanEventType
+import com.salesforce.vador.execution.jfr.validatorInvocationEventType
+import com.salesforce.vador.execution.listener.ValidationListener
+import com.salesforce.vador.execution.listener.ValidatorOutcome
+import com.salesforce.vador.execution.plan.AdaptiveOrder
+import com.salesforce.vador.execution.plan.CompiledValidationPlan
 import com.salesforce.vador.lift.liftAllToEtr
 import com.salesforce.vador.lift.liftToEtr
 import com.salesforce.vador.specs.component1
@@ -20,12 +29,14 @@ import com.salesforce.vador.specs.component2
 import com.salesforce.vador.types.Validator
 import com.salesforce.vador.types.ValidatorEtr
 import io.vavr.CheckedFunction1.liftTry
+import io.vavr.Function1
 import io.vavr.Function1.identity
 import io.vavr.Tuple
 import io.vavr.Tuple2
 import io.vavr.control.Either
 import io.vavr.kotlin.left
 import io.vavr.kotlin.right
+import java.util.BitSet
 import java.util.Optional
 
 // TODO 29/07/21 gopala.akshintala: Split this class into individual utils
@@ -42,6 +53,84 @@ internal fun <FailureT, ValidatableT> findFirstFailure(
     fireValidators(validatable, validators, throwableMapper).firstOrNull { it.isLeft }
   }
 
+/**
+ * Same as [findFirstFailure] with the plan's validators, while reporting each validator invocation
+ * to the plan's listener and as a [ValidatorInvocationEvent], if any of them is enabled. With
+ * adaptive ordering, validators are fired in the plan's current order, and their cost and outcome
+ * are recorded to adapt it. Getters shared by the validators run once per validatable, while the
+ * plan's [FieldSnapshots] are active.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> findFirstFailure(
+  validatable: Either<FailureT?, ValidatableT?>,
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  throwableMapper: (Throwable) -> FailureT?
+): Either<FailureT?, ValidatableT?>? {
+  val fieldSnapshots = plan.fieldSnapshots
+  if (fieldSnapshots == null || !fieldSnapshots.isActive || validatable.isLeft) {
+    return fireValidatorsOfPlan(validatable, plan, throwableMapper)
+  }
+  return fieldSnapshots.withSnapshot(validatable.get()) {
+    fireValidatorsOfPlan(validatable, plan, throwableMapper)
+  }
+}
+
+private fun <FailureT, ValidatableT> fireValidatorsOfPlan(
+  validatable: Either<FailureT?, ValidatableT?>,
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  throwableMapper: (Throwable) -> FailureT?
+): Either<FailureT?, ValidatableT?>? {
+  val listener = plan.listener
+  val adaptiveOrder = plan.adaptiveOrder
+  if (listener == null && adaptiveOrder == null && !validatorInvocationEventType.isEnabled) {
+    return findFirstFailure(validatable, plan.validators, throwableMapper)
+  }
+  if (validatable.isLeft) {
+    return validatable
+  }
+  if (adaptiveOrder != null) {
+    return findFirstFailureAdaptively(validatable, plan, adaptiveOrder, throwableMapper, listener)
+  }
+  plan.validators.forEachIndexed { index, validatorEtr ->
+    val result =
+      fireValidator(validatable, validatorEtr, throwableMapper, plan.validatorIds[index], listener)
+    if (result.isLeft) {
+      return result
+    }
+  }
+  return null
+}
+
+private fun <FailureT, ValidatableT> findFirstFailureAdaptively(
+  validatable: Either<FailureT?, ValidatableT?>,
+  plan: CompiledValidationPlan<ValidatableT, FailureT>,
+  adaptiveOrder: AdaptiveOrder,
+  throwableMapper: (Throwable) -> FailureT?,
+  listener: ValidationListener?
+): Either<FailureT?, ValidatableT?>? {
+  val observed = listener != null || validatorInvocationEventType.isEnabled
+  try {
+    for (index in adaptiveOrder.order) {
+      val validatorEtr = plan.validators[index]
+      val startNanos = System.nanoTime()
+      val result =
+        if (observed) {
+          val validatorId = plan.validatorIds[index]
+          fireValidator(validatable, validatorEtr, throwableMapper, validatorId, listener)
+        } else {
+          fireValidator(validatable, validatorEtr, throwableMapper)
+        }
+      adaptiveOrder.record(index, System.nanoTime() - startNanos, result.isLeft)
+      if (result.isLeft) {
+        return result
+      }
+    }
+    return null
+  } finally {
+    adaptiveOrder.onValidated()
+  }
+}
+
 /**
  * To fire Collection of validators on a validatable.
  *
@@ -66,6 +155,36 @@ private fun <FailureT, ValidatableT> fireValidator(
     .fold({ left<FailureT?, ValidatableT?>(throwableMapper(it)) }) { it }
     .flatMap { validatable } // Put the original Validatable in the right state
 
+@JvmSynthetic
+private fun <FailureT, ValidatableT> fireValidator(
+  validatable: Either<FailureT?, ValidatableT?>,
+  validatorEtr: ValidatorEtr<ValidatableT, FailureT>,
+  throwableMapper: (Throwable) -> FailureT?,
+  validatorId: String,
+  listener: ValidationListener?
+): Either<FailureT?, ValidatableT?> {
+  val event = if (validatorInvocationEventType.isEnabled) ValidatorInvocationEvent() else null
+  event?.begin()
+  val startNanos = System.nanoTime()
+  val result = liftTry(validatorEtr).apply(validatable)
+  val durationNanos = System.nanoTime() - startNanos
+  event?.end()
+  val outcome =
+    when {
+      result.isFailure -> ValidatorOutcome.THREW
+      result.get().isLeft -> ValidatorOutcome.FAILED
+      else -> ValidatorOutcome.PASSED
+    }
+  event?.commit(validatorId, outcome.name)
+  listener?.onValidatorInvocation(validatorId, outcome, durationNanos)
+  if (result.isFailure) {
+    val failure = runCatching { throwableMapper(result.cause) }
+    listener?.onValidatorException(validatorId, result.cause, failure.getOrNull())
+    return left(failure.getOrThrow())
+  }
+  return result.get().flatMap { validatable }
+}
+
 @JvmSynthetic
 internal fun <
   ContainerRootValidatableT, ContainerLevel1ValidatableT, FailureT : Any> validateBatchSize(
@@ -117,94 +236,148 @@ private fun <FailureT : Any> validateBatchSize(
   }
 }
 
-@JvmInline internal value class Index(internal val index: Int)
-
 internal fun <FailureT, ValidatableT> findAndFilterInvalids(
   validatables: Collection<ValidatableT>,
   failureForNullValidatable: FailureT?,
   filterConfigBuilders: Collection<FilterDuplicatesConfigBuilder<ValidatableT, FailureT?>>
-): Collection<Either<FailureT?, ValidatableT?>> {
-  val mapNullValidatables: Collection<Pair<ValidatableT?, Either<FailureT?, ValidatableT?>>> =
-    validatables.map {
-      if (it == null) Pair(null, left(failureForNullValidatable)) else Pair(it, right(it))
+): Collection<Either<FailureT?, ValidatableT?>> =
+  findAndFilterInvalids(
+    validatables,
+    failureForNullValidatable,
+    filterConfigBuilders.map { it.prepare() }
+  )
+
+/**
+ * Same as [scanForInvalids], with results as `Either`s in the same order as `validatables`, without
+ * the members filtered out.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> findAndFilterInvalids(
+  validatables: Collection<ValidatableT?>,
+  failureForNullValidatable: FailureT?,
+  filterDuplicatesConfigs: List<FilterDuplicatesConfig<ValidatableT, FailureT?>>
+): List<Either<FailureT?, ValidatableT?>> {
+  val scan = scanForInvalids(validatables, failureForNullValidatable, filterDuplicatesConfigs)
+  val results = ArrayList<Either<FailureT?, ValidatableT?>>(validatables.size)
+  validatables.forEachIndexed { index, validatable ->
+    if (!scan.filteredOut[index]) {
+      results +=
+        if (scan.isInvalid(index)) left(scan.failureByIndex[index]) else right(validatable)
     }
-  return if (filterConfigBuilders.isEmpty()) {
-    mapNullValidatables.map { it.second }
-  } else {
-    findAndFilterInvalids(
-        mapNullValidatables.withIndex().map {
-          Triple(Index(it.index), it.value.first, it.value.second)
-        },
-        filterConfigBuilders.iterator()
-      )
-      .sortedBy { it.first.index }
-      .map { it.third }
   }
+  return results
 }
 
-private tailrec fun <ValidatableT, FailureT> findAndFilterInvalids(
-  validatables: List<Triple<Index, ValidatableT?, Either<FailureT?, ValidatableT?>>>,
-  filterConfigs: Iterator<FilterDuplicatesConfigBuilder<ValidatableT, FailureT?>>
-): List<Triple<Index, ValidatableT?, Either<FailureT?, ValidatableT?>>> =
-  if (!filterConfigs.hasNext()) {
-    validatables
-  } else {
-    val results = segregateNullAndDuplicateKeysInOrder(validatables, filterConfigs.next())
-    findAndFilterInvalids(results, filterConfigs)
+/**
+ * Fails null validatables, and then applies `filterDuplicatesConfigs` in order. Each config fails
+ * the valid members with null keys, and fails or filters out (if no failure is configured) all
+ * members with duplicate keys, among members not filtered out by the configs before it.
+ *
+ * Keys of all configs are found in a single pass over the batch, so a config costs a key lookup
+ * per member. Only keys that repeat are kept with their members' indices, and only those are
+ * revisited to apply the configs in order.
+ *
+ * The scan is reported as a [DuplicateScanEvent], if it's enabled in a JFR recording.
+ */
+@JvmSynthetic
+internal fun <FailureT, ValidatableT> scanForInvalids(
+  validatables: Collection<ValidatableT?>,
+  failureForNullValidatable: FailureT?,
+  filterDuplicatesConfigs: List<FilterDuplicatesConfig<ValidatableT, FailureT?>>
+): InvalidsScan<FailureT> {
+  val scan = InvalidsScan<FailureT>(validatables.size)
+  validatables.forEachIndexed { index, validatable ->
+    if (validatable == null) {
+      scan.failIfValid(index, failureForNullValidatable)
+    }
   }
-
-private fun <ValidatableT, FailureT> segregateNullAndDuplicateKeysInOrder(
-  validatables: List<Triple<Index, ValidatableT?, Either<FailureT?, ValidatableT?>>>,
-  filterDuplicatesConfigBuilder: FilterDuplicatesConfigBuilder<ValidatableT, FailureT?>
-): List<Triple<Index, ValidatableT?, Either<FailureT?, ValidatableT?>>> {
-  val filterDuplicatesConfig = filterDuplicatesConfigBuilder.prepare()
-  val duplicateFinder = filterDuplicatesConfig.findAndFilterDuplicatesWith
-  val keyMapperForDuplicates = duplicateFinder ?: identity()
-
-  val groups =
-    validatables.groupBy { (_, validatable, _) ->
-      Optional.ofNullable(validatable?.let { keyMapperForDuplicates.apply(it) })
+  if (filterDuplicatesConfigs.isEmpty()) {
+    return scan
+  }
+  val event = if (duplicateScanEventType.isEnabled) DuplicateScanEvent() else null
+  event?.begin()
+  val keyMappers: List<Function1<ValidatableT, *>> =
+    filterDuplicatesConfigs.map { it.findAndFilterDuplicatesWith ?: identity<ValidatableT>() }
+  val keyIndexes = filterDuplicatesConfigs.map { KeyIndex() }
+  validatables.forEachIndexed { index, validatable ->
+    if (validatable != null) {
+      keyMappers.forEachIndexed { configIndex, keyMapper ->
+        keyIndexes[configIndex].add(keyMapper.apply(validatable), index)
+      }
     }
-  val withNullKeys = groups[Optional.empty()]
-  val nullKeysWithFailures =
-    associateValidatablesWithNullKeys(filterDuplicatesConfig.andFailNullKeysWith, withNullKeys)
+  }
+  val filteredOut = scan.filteredOut
+  filterDuplicatesConfigs.forEachIndexed { configIndex, filterDuplicatesConfig ->
+    val keyIndex = keyIndexes[configIndex]
+    val failureForNullKeys = filterDuplicatesConfig.andFailNullKeysWith
+    if (failureForNullKeys != null) {
+      keyIndex.withNullKeys
+        .filterNot { filteredOut[it] }
+        .forEach { scan.failIfValid(it, failureForNullKeys) }
+    }
+    val failureForDuplicates = filterDuplicatesConfig.andFailDuplicatesWith
+    for (withDuplicateKeys in keyIndex.withDuplicateKeys) {
+      // A key may no longer be a duplicate, if its members are filtered out by the configs before.
+      val duplicates = withDuplicateKeys.filterNot { filteredOut[it] }
+      if (duplicates.size > 1) {
+        if (failureForDuplicates == null) {
+          duplicates.forEach { filteredOut.set(it) }
+        } else {
+          duplicates.forEach { scan.failIfValid(it, failureForDuplicates) }
+        }
+      }
+    }
+  }
+  event?.end()
+  if (event != null && event.shouldCommit()) {
+    event.commit(
+      validatables.size,
+      filterDuplicatesConfigs.size,
+      filteredOut.cardinality(),
+      scan.invalid.stream().filter { !filteredOut[it] }.count().toInt()
+    )
+  }
+  return scan
+}
 
-  val (duplicates, nonDuplicates) =
-    groups
-      .filterKeys { it.isPresent }
-      .values
-      .partition { it.size > 1 }
-      .toList()
-      .map { it.flatten() }
-  val duplicatesWithFailures =
-    associateValidatablesWithDuplicateKeys(filterDuplicatesConfig.andFailDuplicatesWith, duplicates)
+/**
+ * Members failed by [scanForInvalids] with their failures, and members filtered out, by their index
+ * in the batch. Failures are kept only for members failed, so a batch of valid members costs a bit
+ * per member.
+ */
+internal class InvalidsScan<FailureT>(size: Int) {
+  val invalid = BitSet(size)
+  val failureByIndex: MutableMap<Int, FailureT?> = HashMap()
+  val filteredOut = BitSet(size)
 
-  return duplicatesWithFailures + nullKeysWithFailures + nonDuplicates
-}
+  fun isInvalid(index: Int): Boolean = invalid[index]
 
-private fun <FailureT, ValidatableT> associateValidatablesWithNullKeys(
-  failureForNullKeys: FailureT?,
-  withNullKeys: List<Triple<Index, ValidatableT?, Either<FailureT?, ValidatableT?>>>?
-): List<Triple<Index, ValidatableT?, Either<FailureT?, ValidatableT?>>> =
-  failureForNullKeys?.let { withNullKeys?.map(associateWithFailure(it)) }
-    ?: withNullKeys ?: emptyList()
+  /** Fails the member at `index`, unless it's already failed, so its first failure is kept. */
+  fun failIfValid(index: Int, failure: FailureT?) {
+    if (!invalid[index]) {
+      invalid.set(index)
+      failureByIndex[index] = failure
+    }
+  }
+}
 
-private fun <FailureT, ValidatableT> associateValidatablesWithDuplicateKeys(
-  failureForDuplicates: FailureT?,
-  duplicates: List<Triple<Index, ValidatableT, Either<FailureT?, ValidatableT>>>
-): List<Triple<Index, ValidatableT, Either<FailureT?, ValidatableT>>> =
-  failureForDuplicates?.let { duplicates.map(associateWithFailure(it)) } ?: emptyList()
+/** Indices of batch members by their key, retained only for null keys and keys that repeat. */
+private class KeyIndex {
+  private val firstIndexByKey = HashMap<Any, Int>()
+  private val indicesByDuplicateKey = HashMap<Any, MutableList<Int>>()
+  val withNullKeys: MutableList<Int> = mutableListOf()
+  val withDuplicateKeys: Collection<List<Int>>
+    get() = indicesByDuplicateKey.values
 
-private fun <FailureT, ValidatableT> associateWithFailure(failure: FailureT?) =
-  {
-    (index, validatable, validatableEtr): Triple<
-      Index, ValidatableT, Either<FailureT?, ValidatableT>
-    > ->
-    when {
-      validatableEtr.isLeft -> Triple(index, validatable, validatableEtr)
-      else -> Triple(index, validatable, left(failure))
+  fun add(key: Any?, index: Int) {
+    if (key == null) {
+      withNullKeys += index
+      return
     }
+    val firstIndex = firstIndexByKey.putIfAbsent(key, index) ?: return
+    indicesByDuplicateKey.getOrPut(key) { mutableListOf(firstIndex) } += index
   }
+}
 
 internal fun <ValidatableT, FailureT> findFirstInvalid(
   validatables: Collection<ValidatableT?>,
@@ -225,62 +398,73 @@ internal fun <ValidatableT, FailureT, PairT> findFirstInvalid(
   failureForNullValidatable: FailureT? = null,
   pairForInvalidMapper: (ValidatableT?) -> PairT? = { null }
 ): Optional<Tuple2<PairT?, FailureT?>> =
-  filterDuplicatesConfigBuilders
-    .asSequence()
-    .map { findFirstInvalid(validatables, it, failureForNullValidatable, pairForInvalidMapper) }
-    .find { it.isPresent }
-    ?: Optional.empty()
+  findFirstInvalid(
+    validatables,
+    filterDuplicatesConfigBuilders.map { it.prepare() },
+    failureForNullValidatable,
+    pairForInvalidMapper
+  )
 
-private fun <ValidatableT, FailureT, PairT> findFirstInvalid(
+/**
+ * Scans `validatables` once, in order, and returns at the first member that's null, or has a null
+ * key or a key seen before per any of `filterDuplicatesConfigs`, so an invalid batch is rejected
+ * in time proportional to the position of its first invalid member. Configs are checked in order
+ * for each member. A duplicate is paired with the first member having its key.
+ */
+@JvmSynthetic
+internal fun <ValidatableT, FailureT, PairT> findFirstInvalid(
   validatables: Collection<ValidatableT?>,
-  filterDuplicatesConfigBuilder: FilterDuplicatesConfigBuilder<ValidatableT, FailureT?>,
+  filterDuplicatesConfigs: List<FilterDuplicatesConfig<ValidatableT, FailureT?>>,
   failureForNullValidatable: FailureT? = null,
   pairForInvalidMapper: (ValidatableT?) -> PairT? = { null }
 ): Optional<Tuple2<PairT?, FailureT?>> {
-  if (validatables.isEmpty()) {
+  if (filterDuplicatesConfigs.isEmpty() || validatables.isEmpty()) {
     return Optional.empty()
   } else if (validatables.size == 1) {
-    val onlyValidatable = validatables.first()
-    return if (onlyValidatable == null)
-      Optional.ofNullable(Tuple.of(null, failureForNullValidatable))
+    return if (validatables.first() == null)
+      Optional.of(Tuple.of(null, failureForNullValidatable))
     else Optional.empty()
   }
-  val filterDuplicatesConfig = filterDuplicatesConfigBuilder.prepare()
-  val duplicateFinder = filterDuplicatesConfig.findAndFilterDuplicatesWith
-  val keyMapperForDuplicates = duplicateFinder ?: identity()
-
-  // Groups
-  // null - Null Validatables
-  // Optional.empty() - Validatables with Null keys
-  // Optional[Key] - Validatables with Nonnull keys
-  val groups =
-    validatables.groupBy {
-      if (it == null) null else Optional.ofNullable(keyMapperForDuplicates.apply(it))
+  val keyScans = filterDuplicatesConfigs.map { KeyScan(it) }
+  for (validatable in validatables) {
+    if (validatable == null) {
+      return Optional.of(Tuple.of(null, failureForNullValidatable))
+    }
+    for (keyScan in keyScans) {
+      val (invalid, failure) = keyScan.findInvalid(validatable) ?: continue
+      return Optional.of(Tuple.of(pairForInvalidMapper(invalid), failure))
     }
-  val nullValidatables = groups[null]
-  if (!nullValidatables.isNullOrEmpty()) {
-    return Optional.ofNullable(Tuple.of(null, failureForNullValidatable))
-  }
-  val invalidsWithNullKeys = groups[Optional.empty()]
-  if (!invalidsWithNullKeys.isNullOrEmpty()) {
-    return Optional.ofNullable(
-      Tuple.of(
-        pairForInvalidMapper(invalidsWithNullKeys.first()),
-        filterDuplicatesConfig.andFailNullKeysWith
-      )
-    )
-  }
-  val failureForDuplicate = filterDuplicatesConfig.andFailDuplicatesWith
-  if (duplicateFinder != null && failureForDuplicate != null) {
-    val remaining = groups.filterKeys { it != null && it.isPresent }.values
-    return remaining
-      .find { it.size > 1 }
-      ?.let { Optional.of(Tuple.of(pairForInvalidMapper(it.first()), failureForDuplicate)) }
-      ?: Optional.empty()
   }
   return Optional.empty()
 }
 
+/**
+ * Checks members of a batch one after another for null keys and, if a failure is configured for
+ * them, duplicate keys. Only keys are held, without grouping members by them.
+ */
+private class KeyScan<ValidatableT, FailureT>(
+  filterDuplicatesConfig: FilterDuplicatesConfig<ValidatableT, FailureT?>
+) {
+  private val keyMapper: Function1<ValidatableT, *> =
+    filterDuplicatesConfig.findAndFilterDuplicatesWith ?: identity<ValidatableT>()
+  private val failureForNullKeys = filterDuplicatesConfig.andFailNullKeysWith
+  private val failureForDuplicates =
+    filterDuplicatesConfig.andFailDuplicatesWith.takeIf {
+      filterDuplicatesConfig.findAndFilterDuplicatesWith != null
+    }
+  private val firstMemberByKey = HashMap<Any, ValidatableT>()
+
+  /** @return Member to pair with the failure and the failure, or `null` if `member` is valid. */
+  fun findInvalid(member: ValidatableT): Pair<ValidatableT, FailureT?>? {
+    val key = keyMapper.apply(member) ?: return Pair(member, failureForNullKeys)
+    if (failureForDuplicates == null) {
+      return null
+    }
+    val firstMemberWithKey = firstMemberByKey.putIfAbsent(key, member) ?: return null
+    return Pair(firstMemberWithKey, failureForDuplicates)
+  }
+}
+
 internal fun <ValidatableT, FailureT> fromValidators1(
   validators: Tuple2<out Collection<Validator<in ValidatableT?, FailureT?>>?, out FailureT?>?
 ): List<ValidatorEtr<ValidatableT?, FailureT?>> =
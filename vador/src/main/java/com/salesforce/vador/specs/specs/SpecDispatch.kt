@@ -0,0 +1,141 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+@file:JvmName("SpecDispatch")
+
+package com.salesforce.vador.specs.specs
+
+import com.salesforce.vador.execution.strategies.util.keyOf
+import com.salesforce.vador.specs.specs.base.BaseSpec
+import java.util.BitSet
+import java.util.concurrent.ConcurrentHashMap
+import java.util.function.Predicate
+import org.hamcrest.Matcher
+import org.hamcrest.collection.IsIn
+import org.hamcrest.core.IsEqual
+import org.hamcrest.core.IsNull
+
+/** `Spec2`s on the same `when` getter it takes for them to share a [WhenDispatch]. */
+private const val MIN_DISPATCHED_SPECS = 4
+
+/** Distinct `when` values a [WhenDispatch] keeps, so that it stays bounded. */
+private const val MAX_DISPATCHED_VALUES = 1024
+
+private val NULL_VALUE = Any()
+
+/**
+ * Predicates of `specs`, in the same order. `Spec2`s that only apply when their `when` value
+ * matches any of `matchesAnyOf`, all of which match on the value alone, and that are given for the
+ * same `when` getter at least [MIN_DISPATCHED_SPECS] times, share a [WhenDispatch], so a spec that
+ * doesn't apply to a value costs a lookup instead of running its matchers.
+ */
+@JvmSynthetic
+@Suppress("UNCHECKED_CAST")
+internal fun <ValidatableT, FailureT> toPredicates(
+  specs: List<BaseSpec<ValidatableT, FailureT>>
+): List<Predicate<ValidatableT?>> {
+  val predicates = arrayOfNulls<Predicate<ValidatableT?>>(specs.size)
+  specs
+    .withIndex()
+    .filter { (_, spec) -> spec is Spec2<*, *, *, *> && spec.isDispatchable() }
+    .groupBy { (_, spec) -> keyOf((spec as Spec2<*, *, *, *>).`when`) }
+    .values
+    .filter { it.size >= MIN_DISPATCHED_SPECS }
+    .forEach { group ->
+      val dispatch =
+        WhenDispatch(
+          group.map { (_, spec) ->
+            (spec as Spec2<*, *, *, *>).matchesAnyOf as Collection<Matcher<*>>
+          }
+        )
+      group.forEachIndexed { member, (index, spec) ->
+        predicates[index] =
+          (spec as Spec2<ValidatableT, FailureT, Any?, Any?>).toPredicateEx { whenValue ->
+            dispatch.applies(member, whenValue)
+          }
+      }
+    }
+  return specs.mapIndexed { index, spec -> predicates[index] ?: spec.toPredicate() }
+}
+
+private fun Spec2<*, *, *, *>.isDispatchable(): Boolean =
+  matchesAnyOf.isNotEmpty() &&
+    matchesAnyOf.all { isOnValue(it) } &&
+    shouldRelateWith.isEmpty() &&
+    shouldRelateWithFn == null
+
+/**
+ * Whether `matcher` is known to match on the value alone, so that its results can be looked up.
+ * That's [ValueMatcher]s and hamcrest's `equalTo`, `isIn` and `nullValue`. Subclasses of the
+ * hamcrest ones can match differently, and wrappers like `is` and `anyOf` don't tell what they
+ * wrap, so they aren't.
+ */
+private fun isOnValue(matcher: Matcher<*>?): Boolean =
+  when (matcher?.javaClass) {
+    null -> false
+    IsEqual::class.java,
+    IsIn::class.java,
+    IsNull::class.java -> true
+    else -> matcher is ValueMatcher
+  }
+
+/**
+ * Which specs of a group apply to a `when` value, as in the value matches any of their matchers.
+ * Each value is matched once against all of them and then looked up, as long as it's of a type
+ * whose equal values can't be told apart by a matcher, like strings, enums and boxed primitives.
+ * Other values, and values past the first [MAX_DISPATCHED_VALUES], are matched every time, each
+ * against the matchers of the spec at hand only.
+ */
+private class WhenDispatch(private val matchersByMember: List<Collection<Matcher<*>>>) {
+  private val applicableByValue = ConcurrentHashMap<Any, BitSet>()
+
+  fun applies(member: Int, whenValue: Any?): Boolean {
+    if (!isDispatchable(whenValue)) {
+      return matches(member, whenValue)
+    }
+    val key = whenValue ?: NULL_VALUE
+    applicableByValue[key]?.let {
+      return it[member]
+    }
+    if (applicableByValue.size >= MAX_DISPATCHED_VALUES) {
+      return matches(member, whenValue)
+    }
+    // If a matcher threw, each spec matches on its own, so only the spec it belongs to throws.
+    val applicable = applicableTo(whenValue) ?: return matches(member, whenValue)
+    applicableByValue.putIfAbsent(key, applicable)
+    return applicable[member]
+  }
+
+  private fun applicableTo(whenValue: Any?): BitSet? =
+    runCatching {
+        val applicable = BitSet(matchersByMember.size)
+        for (member in matchersByMember.indices) {
+          if (matches(member, whenValue)) {
+            applicable.set(member)
+          }
+        }
+        applicable
+      }
+      .getOrNull()
+
+  private fun matches(member: Int, whenValue: Any?): Boolean =
+    matchersByMember[member].any { it.matches(whenValue) }
+
+  private fun isDispatchable(whenValue: Any?): Boolean =
+    when (whenValue) {
+      null,
+      is String,
+      is Enum<*>,
+      is Boolean,
+      is Char,
+      is Byte,
+      is Short,
+      is Int,
+      is Long -> true
+      else -> false
+    }
+}
@@ -9,6 +9,7 @@
 
 package com.salesforce.vador.specs.specs
 
+import com.salesforce.vador.execution.strategies.util.readField
 import com.salesforce.vador.specs.component1
 import com.salesforce.vador.specs.component2
 import com.salesforce.vador.specs.specs.base.BaseSpec
@@ -16,13 +17,21 @@ import java.util.function.Predicate
 
 internal fun <ValidatableT, FailureT, GivenT> Spec1<ValidatableT, FailureT, GivenT>.toPredicateEx():
   Predicate<ValidatableT?> = Predicate { validatable ->
-  val givenValue: GivenT = given.apply(validatable)
+  val givenValue: GivenT = readField(given, validatable)
   shouldMatchAnyOf.any { it.matches(givenValue) } ||
-    shouldMatchAnyOfFields.any { it.apply(validatable) == givenValue }
+    shouldMatchAnyOfFields.any { readField(it, validatable) == givenValue }
 }
 
 internal fun <ValidatableT, FailureT, WhenT, ThenT> Spec2<ValidatableT, FailureT, WhenT, ThenT>
-  .toPredicateEx(): Predicate<ValidatableT?> {
+  .toPredicateEx(): Predicate<ValidatableT?> = toPredicateEx { whenValue ->
+  matchesAnyOf.any { it.matches(whenValue) }
+}
+
+/** @param whenMatches Whether the `when` value matches any of `matchesAnyOf`. */
+@JvmSynthetic
+internal fun <ValidatableT, FailureT, WhenT, ThenT> Spec2<ValidatableT, FailureT, WhenT, ThenT>
+  .toPredicateEx(whenMatches: (Any?) -> Boolean): Predicate<ValidatableT?> {
+  val relations = shouldRelateWith.toRelationIndex()
   return Predicate { validatable ->
     if (
       (matchesAnyOf.isNotEmpty() || shouldMatchAnyOf.isNotEmpty()) &&
@@ -32,15 +41,15 @@ internal fun <ValidatableT, FailureT, WhenT, ThenT> Spec2<ValidatableT, FailureT
         "`when-matches/matchesAnyOf + then-shouldMatch/shouldMatchAnyOf` cannot be given along with `shouldRelateWith` or `shouldRelateWithFn`"
       )
     }
-    val whenValue = `when`.apply(validatable)
+    val whenValue = readField(`when`, validatable)
     if (
       shouldRelateWith.isEmpty() &&
         shouldRelateWithFn == null &&
-        matchesAnyOf.none { it.matches(whenValue) }
+        !whenMatches(whenValue)
     ) {
       return@Predicate true
     }
-    val thenValue = then.apply(validatable)
+    val thenValue = readField(then, validatable)
     if (
       shouldRelateWith.isEmpty() &&
         shouldRelateWithFn == null &&
@@ -48,10 +57,7 @@ internal fun <ValidatableT, FailureT, WhenT, ThenT> Spec2<ValidatableT, FailureT
     ) {
       return@Predicate true
     }
-    val validThenValues = shouldRelateWith[whenValue]
-    // TODO 06/05/21 gopala.akshintala: This is a hack, as
-    // `ImmutableCollections.$Set12.contains(thenValue)` throws NPE if `thenValue` is null.
-    if (validThenValues?.any { thenValue == it } == true) {
+    if (relations[whenValue]?.contains(thenValue) == true) {
       return@Predicate true
     }
     shouldRelateWithFn?.apply(whenValue, thenValue) ?: false
@@ -61,24 +67,24 @@ internal fun <ValidatableT, FailureT, WhenT, ThenT> Spec2<ValidatableT, FailureT
 internal fun <ValidatableT, FailureT, WhenT, Then1T, Then2T> Spec3<
   ValidatableT, FailureT, WhenT, Then1T, Then2T
 >
-  .toPredicateEx(): Predicate<ValidatableT?> = Predicate { validatable ->
-  val whenValue = `when`.apply(validatable)
-  if (matchesAnyOf.none { it.matches(whenValue) }) {
-    return@Predicate true
-  }
-  val thenValue1 = thenField1.apply(validatable)
-  val thenValue2 = thenField2.apply(validatable)
-  val validThen2Values = shouldRelateWith[thenValue1]
-  // TODO 06/05/21 gopala.akshintala: This is a hack, as ImmutableCollections.$Set12.contains(null)
-  // throws NPE
-  if (validThen2Values?.any { thenValue2 == it } == true) {
-    return@Predicate true
-  }
-  if (shouldRelateWithFn?.apply(thenValue1, thenValue2) == true) {
-    return@Predicate true
+  .toPredicateEx(): Predicate<ValidatableT?> {
+  val relations = shouldRelateWith.toRelationIndex()
+  return Predicate { validatable ->
+    val whenValue = readField(`when`, validatable)
+    if (matchesAnyOf.none { it.matches(whenValue) }) {
+      return@Predicate true
+    }
+    val thenValue1 = readField(thenField1, validatable)
+    val thenValue2 = readField(thenField2, validatable)
+    if (relations[thenValue1]?.contains(thenValue2) == true) {
+      return@Predicate true
+    }
+    if (shouldRelateWithFn?.apply(thenValue1, thenValue2) == true) {
+      return@Predicate true
+    }
+    orField1ShouldMatchAnyOf.any { it.matches(thenValue1) } ||
+      orField2ShouldMatchAnyOf.any { it.matches(thenValue2) }
   }
-  orField1ShouldMatchAnyOf.any { it.matches(thenValue1) } ||
-    orField2ShouldMatchAnyOf.any { it.matches(thenValue2) }
 }
 
 internal fun <ValidatableT, FailureT, WhenT, Then1T, Then2T> Spec3<
@@ -92,9 +98,9 @@ internal fun <ValidatableT, FailureT, WhenT, Then1T, Then2T> Spec3<
     orFailWith
   } else {
     orFailWithFn?.apply(
-      `when`.apply(validatable),
-      thenField1.apply(validatable),
-      thenField2.apply(validatable)
+      readField(`when`, validatable),
+      readField(thenField1, validatable),
+      readField(thenField2, validatable)
     )
   }
 }
@@ -134,3 +140,17 @@ internal fun <ValidatableT, FailureT> Spec5<ValidatableT, FailureT>.toPredicateE
       ?: false
   }
 }
+
+/**
+ * Copies `shouldRelateWith` into hashed sets, so that checking a relation takes a lookup and not a
+ * scan. Unlike the immutable sets of `Set.of`, these can be checked for `null` without throwing.
+ */
+private fun <KeyT, ValueT> Map<out KeyT, Set<ValueT>?>.toRelationIndex(): Map<Any?, Set<Any?>> {
+  val relations = HashMap<Any?, Set<Any?>>(size * 2)
+  for ((key, values) in entries) {
+    if (values != null) {
+      relations[key] = HashSet<Any?>(values)
+    }
+  }
+  return relations
+}
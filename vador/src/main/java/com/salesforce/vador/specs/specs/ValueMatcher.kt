@@ -0,0 +1,15 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.specs.specs
+
+/**
+ * Marks a `Matcher` whose result depends only on the value it matches, and which equal values
+ * match alike, like a matcher on a set of values. Specs on the same `when` getter look up such
+ * matchers' results per value instead of running them for each validatable.
+ */
+interface ValueMatcher
@@ -0,0 +1,106 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.types
+
+import io.vavr.control.Either
+import io.vavr.kotlin.left
+import io.vavr.kotlin.right
+import java.util.BitSet
+import java.util.Objects
+import java.util.stream.IntStream
+
+/**
+ * Results of validating a batch, as a bit per member for whether it's invalid and a failure only
+ * per invalid member. Unlike a `List<Either>`, a batch of mostly valid members costs little more
+ * than the batch itself.
+ *
+ * Members are indexed in the same order as the batch, without the duplicates filtered out, same as
+ * the results of `validateAndFailFastForEach`. [asEithers] views them in that form.
+ *
+ * @param <ValidatableT>
+ * @param <FailureT>
+ */
+class BatchResult<ValidatableT, FailureT>
+internal constructor(private val validatables: List<ValidatableT?>) {
+  private val invalid = BitSet(validatables.size)
+  private val failureByIndex = HashMap<Int, FailureT?>()
+
+  /** Number of members, without the duplicates filtered out. */
+  val size: Int
+    get() = validatables.size
+
+  val invalidCount: Int
+    get() = invalid.cardinality()
+
+  val validCount: Int
+    get() = size - invalidCount
+
+  fun isValid(index: Int): Boolean {
+    checkIndex(index)
+    return !invalid[index]
+  }
+
+  fun validatableAt(index: Int): ValidatableT? {
+    checkIndex(index)
+    return validatables[index]
+  }
+
+  /** @throws IllegalArgumentException if the member at `index` is valid. */
+  fun failureAt(index: Int): FailureT? {
+    require(!isValid(index)) { "Member at $index is valid" }
+    return failureByIndex[index]
+  }
+
+  /** Indices of invalid members, in ascending order. */
+  fun invalidIndices(): IntStream = invalid.stream()
+
+  /** Indices of valid members, in ascending order. */
+  fun validIndices(): IntStream = IntStream.range(0, size).filter { !invalid[it] }
+
+  /**
+   * Views the results as `Either`s, with the failure on the left for invalid members and the member
+   * on the right for valid ones. `Either`s are created as they are read, and not retained.
+   */
+  fun asEithers(): List<Either<FailureT?, ValidatableT?>> =
+    object : AbstractList<Either<FailureT?, ValidatableT?>>() {
+      override val size: Int
+        get() = this@BatchResult.size
+
+      override fun get(index: Int): Either<FailureT?, ValidatableT?> =
+        if (isValid(index)) {
+          right<FailureT?, ValidatableT?>(validatables[index])
+        } else {
+          left<FailureT?, ValidatableT?>(failureByIndex[index])
+        }
+    }
+
+  /** Fails the member at `index`, unless it's already failed, so its first failure is kept. */
+  @JvmSynthetic
+  internal fun failIfValid(index: Int, failure: FailureT?) {
+    if (!invalid[index]) {
+      invalid.set(index)
+      failureByIndex[index] = failure
+    }
+  }
+
+  private fun checkIndex(index: Int) {
+    if (index < 0 || index >= size) {
+      throw IndexOutOfBoundsException("Index $index out of bounds for size $size")
+    }
+  }
+
+  override fun equals(other: Any?): Boolean =
+    other is BatchResult<*, *> &&
+      validatables == other.validatables &&
+      invalid == other.invalid &&
+      failureByIndex == other.failureByIndex
+
+  override fun hashCode(): Int = Objects.hash(validatables, invalid, failureByIndex)
+
+  override fun toString(): String = asEithers().toString()
+}
@@ -0,0 +1,18 @@
+/**
+ * ****************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc. All rights reserved. SPDX-License-Identifier:
+ * BSD-3-Clause For full license text, see the LICENSE file in the repo root or
+ * https://opensource.org/licenses/BSD-3-Clause
+ * ****************************************************************************
+ */
+package com.salesforce.vador.types
+
+/** Called with each valid member of a batch, and its index in the batch. */
+fun interface OnValid<ValidatableT> {
+  fun accept(index: Int, validatable: ValidatableT?)
+}
+
+/** Called with each invalid member of a batch, its index in the batch and its failure. */
+fun interface OnInvalid<ValidatableT, FailureT> {
+  fun accept(index: Int, validatable: ValidatableT?, failure: FailureT?)
+}
@@ -9,8 +9,25 @@ package com.salesforce.vador.types
 
 import io.vavr.CheckedFunction1
 import io.vavr.control.Either
+import java.util.concurrent.CompletionStage
 
 fun interface Validator<ValidatableT, FailureT> : CheckedFunction1<ValidatableT, FailureT>
 
 fun interface ValidatorEtr<ValidatableT, FailureT> :
   CheckedFunction1<Either<FailureT?, ValidatableT?>, Either<FailureT?, *>>
+
+/**
+ * Validates members of a batch all at once, e.g., to look them up with a single query instead of
+ * one per member. It's fired with the members still valid after the per-member validators, and
+ * returns failures by the index of the member in that list. Members without a failure are valid.
+ */
+fun interface BatchValidator<ValidatableT, FailureT> :
+  CheckedFunction1<List<ValidatableT>, Map<Int, FailureT?>>
+
+/**
+ * Validator that completes asynchronously, e.g., with a call to another service, instead of
+ * blocking the validating thread. It completes with the failure, or with `null` if the validatable
+ * is valid.
+ */
+fun interface AsyncValidator<ValidatableT, FailureT> :
+  CheckedFunction1<ValidatableT, CompletionStage<FailureT?>>
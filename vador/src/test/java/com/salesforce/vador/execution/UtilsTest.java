@@ -18,8 +18,10 @@ import static sample.consumer.failure.ValidationFailure.NULL_KEY;
 import com.salesforce.vador.config.BatchValidationConfig;
 import com.salesforce.vador.config.FilterDuplicatesConfig;
 import io.vavr.Function1;
+import io.vavr.Tuple;
 import io.vavr.collection.List;
 import io.vavr.control.Either;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Value;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -264,6 +266,41 @@ class UtilsTest {
             org.junit.jupiter.api.Assertions.assertEquals(String.valueOf(i + 1), r.get().getId()));
   }
 
+  @DisplayName(
+      "Multiple Filters - FILTER_ONLY: Duplicates for first, FAIL: Duplicates for second. Filtered ones are not duplicates for second")
+  @Test
+  void filterDuplicatesBeforeFailingDuplicatesForMultipleFilters() {
+    final var validatables =
+        List.of(
+            new MultiKeyBean("1", "1"),
+            new MultiKeyBean("1", "2"),
+            new MultiKeyBean("2", "2"),
+            new MultiKeyBean("3", "3"),
+            new MultiKeyBean("4", "3"));
+    final var batchValidationConfig =
+        BatchValidationConfig.<MultiKeyBean, ValidationFailure>toValidate()
+            .findAndFilterDuplicatesConfig(
+                FilterDuplicatesConfig.<MultiKeyBean, ValidationFailure>toValidate()
+                    .findAndFilterDuplicatesWith(MultiKeyBean::getId1))
+            .findAndFilterDuplicatesConfig(
+                FilterDuplicatesConfig.<MultiKeyBean, ValidationFailure>toValidate()
+                    .findAndFilterDuplicatesWith(MultiKeyBean::getId2)
+                    .andFailDuplicatesWith(DUPLICATE_ITEM_2))
+            .prepare();
+    final var results =
+        List.ofAll(
+            findAndFilterInvalids(
+                validatables.toJavaList(),
+                NOTHING_TO_VALIDATE,
+                batchValidationConfig.getFindAndFilterDuplicatesConfigs()));
+
+    Assertions.assertThat(results)
+        .containsExactly(
+            Either.right(new MultiKeyBean("2", "2")),
+            Either.left(DUPLICATE_ITEM_2),
+            Either.left(DUPLICATE_ITEM_2));
+  }
+
   @DisplayName("First Failure : Null validatable")
   @Test
   void filterInvalidatablesAndFailDuplicatesForAllOrNoneNullValidatables() {
@@ -357,6 +394,34 @@ class UtilsTest {
     Assertions.assertThat(result).contains(DUPLICATE_ITEM);
   }
 
+  @DisplayName("First Failure : Returns at the first invalid, without scanning rest of the batch")
+  @Test
+  void filterInvalidatablesAndDuplicatesForAllOrNoneReturnsAtFirstInvalid() {
+    final var keyMapperCalls = new AtomicInteger();
+    final var validatables =
+        List.of(new Bean("1"), new Bean("2"), new Bean("1"), new Bean(null), new Bean("3"));
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .findAndFilterDuplicatesConfig(
+                FilterDuplicatesConfig.<Bean, ValidationFailure>toValidate()
+                    .findAndFilterDuplicatesWith(
+                        bean -> {
+                          keyMapperCalls.incrementAndGet();
+                          return bean.getId();
+                        })
+                    .andFailDuplicatesWith(DUPLICATE_ITEM)
+                    .andFailNullKeysWith(NULL_KEY))
+            .prepare();
+    final var result =
+        findFirstInvalid(
+            validatables.toJavaList(),
+            batchValidationConfig.getFindAndFilterDuplicatesConfigs(),
+            NOTHING_TO_VALIDATE,
+            Bean::getId);
+    Assertions.assertThat(result).contains(Tuple.of("1", DUPLICATE_ITEM));
+    Assertions.assertThat(keyMapperCalls).hasValue(3);
+  }
+
   @Test
   void filterInvalidatablesAndDuplicatesForAllOrNoneAllValid() {
     final var validatables = List.of(new Bean("1"), new Bean("2"), new Bean("3"));
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static sample.consumer.failure.ValidationFailure.NONE;
+import static sample.consumer.failure.ValidationFailure.UNKNOWN_EXCEPTION;
+import static sample.consumer.failure.ValidationFailure.VALIDATION_FAILURE_1;
+import static sample.consumer.failure.ValidationFailure.VALIDATION_FAILURE_2;
+
+import com.salesforce.vador.config.BatchValidationConfig;
+import com.salesforce.vador.config.ValidationConfig;
+import com.salesforce.vador.types.AsyncValidator;
+import com.salesforce.vador.types.Validator;
+import io.vavr.Tuple;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import sample.consumer.failure.ValidationFailure;
+
+class VadorAsyncTest {
+
+  private static final List<Bean> VALIDATABLE_BATCH =
+      List.of(new Bean(0), new Bean(1), new Bean(2), new Bean(3), new Bean(4));
+
+  private static final Validator<Bean, ValidationFailure> validator =
+      bean -> bean.getId() != 0 ? NONE : VALIDATION_FAILURE_1;
+
+  private static final AsyncValidator<Bean, ValidationFailure> asyncValidator =
+      bean ->
+          CompletableFuture.supplyAsync(() -> bean.getId() == 3 ? VALIDATION_FAILURE_2 : null);
+
+  @Test
+  void failFastAsyncStopsAtFirstFailure() {
+    final var fired = new AtomicInteger();
+    final AsyncValidator<Bean, ValidationFailure> countingValidator =
+        bean ->
+            CompletableFuture.completedFuture(
+                fired.incrementAndGet() == 1 ? null : VALIDATION_FAILURE_2);
+    final var validationConfig =
+        ValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidators(Tuple.of(List.of(validator), NONE))
+            .prepare();
+
+    assertThat(
+            VadorAsync.validateAndFailFast(
+                    new Bean(1),
+                    validationConfig,
+                    List.of(countingValidator, countingValidator, countingValidator))
+                .join())
+        .contains(VALIDATION_FAILURE_2);
+    assertEquals(2, fired.get());
+    // Async validators aren't fired if the config fails.
+    assertThat(
+            VadorAsync.validateAndFailFast(
+                    new Bean(0), validationConfig, List.of(countingValidator))
+                .join())
+        .contains(VALIDATION_FAILURE_1);
+    assertEquals(2, fired.get());
+  }
+
+  @Test
+  void failFastForEachAsync() {
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidators(Tuple.of(List.of(validator), NONE))
+            .prepare();
+    final var results =
+        VadorAsync.validateAndFailFastForEach(
+                VALIDATABLE_BATCH, batchValidationConfig, List.of(asyncValidator))
+            .join();
+
+    assertEquals(
+        List.of(
+            Either.left(VALIDATION_FAILURE_1),
+            Either.right(new Bean(1)),
+            Either.right(new Bean(2)),
+            Either.left(VALIDATION_FAILURE_2),
+            Either.right(new Bean(4))),
+        results);
+  }
+
+  @Test
+  void failFastForAnyAsync() {
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate().prepare();
+    assertThat(
+            VadorAsync.validateAndFailFastForAny(
+                    VALIDATABLE_BATCH, Bean::getId, batchValidationConfig, List.of(asyncValidator))
+                .join())
+        .contains(Tuple.of(3, VALIDATION_FAILURE_2));
+  }
+
+  @Test
+  void failFastForAnyAsyncReportsLowestIndexFailure() {
+    final var slowFailure = new CompletableFuture<ValidationFailure>();
+    final AsyncValidator<Bean, ValidationFailure> slowForFirstValidator =
+        bean ->
+            bean.getId() == 1
+                ? slowFailure
+                : CompletableFuture.completedFuture(
+                    bean.getId() == 3 ? VALIDATION_FAILURE_2 : null);
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate().prepare();
+    final var result =
+        VadorAsync.validateAndFailFastForAny(
+            VALIDATABLE_BATCH, Bean::getId, batchValidationConfig, List.of(slowForFirstValidator));
+
+    // Member 3 failed, but member 1 before it is still being validated.
+    assertThat(result).isNotDone();
+    slowFailure.complete(VALIDATION_FAILURE_1);
+    assertThat(result.join()).contains(Tuple.of(1, VALIDATION_FAILURE_1));
+  }
+
+  @Test
+  void failFastForAnyAsyncStartsNoMemberAfterFailure() {
+    final var fired = new AtomicInteger();
+    final AsyncValidator<Bean, ValidationFailure> countingValidator =
+        bean -> {
+          fired.incrementAndGet();
+          return CompletableFuture.completedFuture(bean.getId() == 0 ? VALIDATION_FAILURE_1 : null);
+        };
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate().prepare();
+    final var result =
+        VadorAsync.validateAndFailFastForAny(
+                VALIDATABLE_BATCH,
+                Bean::getId,
+                batchValidationConfig,
+                List.of(countingValidator),
+                ForkJoinPool.commonPool(),
+                null,
+                throwable -> UNKNOWN_EXCEPTION,
+                1)
+            .join();
+
+    assertThat(result).contains(Tuple.of(0, VALIDATION_FAILURE_1));
+    assertEquals(1, fired.get());
+  }
+
+  @Test
+  void failFastForEachAsyncBoundsMembersInFlight() {
+    final var inFlight = new AtomicInteger();
+    final var maxInFlight = new AtomicInteger();
+    final AsyncValidator<Bean, ValidationFailure> delayedValidator =
+        bean -> {
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          return CompletableFuture.supplyAsync(
+              () -> {
+                inFlight.decrementAndGet();
+                return null;
+              },
+              CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS));
+        };
+    final var batch = IntStream.range(0, 20).mapToObj(Bean::new).collect(Collectors.toList());
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate().prepare();
+    final var results =
+        VadorAsync.validateAndFailFastForEach(
+                batch,
+                batchValidationConfig,
+                List.of(delayedValidator),
+                ForkJoinPool.commonPool(),
+                null,
+                throwable -> UNKNOWN_EXCEPTION,
+                2)
+            .join();
+
+    assertThat(results).hasSize(20).allMatch(Either::isRight);
+    assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void failFastForEachAsyncMapsExceptions() {
+    final AsyncValidator<Bean, ValidationFailure> throwingValidator =
+        bean -> CompletableFuture.failedFuture(new IllegalStateException());
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate().prepare();
+    final var results =
+        VadorAsync.validateAndFailFastForEach(
+                VALIDATABLE_BATCH,
+                batchValidationConfig,
+                List.of(throwingValidator),
+                Runnable::run,
+                null,
+                throwable -> UNKNOWN_EXCEPTION)
+            .join();
+
+    assertThat(results).containsOnly(Either.left(UNKNOWN_EXCEPTION));
+  }
+
+  @Value
+  private static class Bean {
+    int id;
+  }
+}
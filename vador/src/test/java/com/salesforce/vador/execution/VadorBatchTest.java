@@ -7,8 +7,11 @@
 
 package com.salesforce.vador.execution;
 
+import static com.salesforce.vador.matchers.AnyMatchers.anyOf;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static sample.consumer.failure.ValidationFailure.NONE;
 import static sample.consumer.failure.ValidationFailure.NOTHING_TO_VALIDATE;
@@ -18,16 +21,33 @@ import static sample.consumer.failure.ValidationFailure.VALIDATION_FAILURE_2;
 import static sample.consumer.failure.ValidationFailure.VALIDATION_FAILURE_3;
 
 import com.salesforce.vador.config.BatchValidationConfig;
+import com.salesforce.vador.config.FilterDuplicatesConfig;
+import com.salesforce.vador.execution.jfr.BatchValidationEvent;
+import com.salesforce.vador.execution.jfr.ValidatorInvocationEvent;
+import com.salesforce.vador.execution.listener.ValidationMetrics;
+import com.salesforce.vador.execution.plan.CompiledValidationPlan;
+import com.salesforce.vador.types.BatchValidator;
 import com.salesforce.vador.types.Validator;
 import com.salesforce.vador.types.ValidatorEtr;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.control.Either;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import lombok.Value;
 import org.assertj.vavr.api.VavrAssertions;
 import org.junit.jupiter.api.Assertions;
@@ -166,6 +186,431 @@ class VadorBatchTest {
     assertThat(result).contains(Tuple.of(0, VALIDATION_FAILURE_1));
   }
 
+  @Test
+  void failFastWithCompiledValidationPlan() {
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .prepare();
+    final var plan = CompiledValidationPlan.compile(batchValidationConfig);
+    assertEquals(VALIDATOR_ETRS.size(), plan.getValidatorCount());
+    assertEquals(
+        VadorBatch.validateAndFailFastForEach(VALIDATABLE_BATCH, batchValidationConfig),
+        VadorBatch.validateAndFailFastForEach(VALIDATABLE_BATCH, plan));
+    assertThat(VadorBatch.validateAndFailFastForAny(VALIDATABLE_BATCH, plan))
+        .contains(VALIDATION_FAILURE_1);
+    assertSame(
+        CompiledValidationPlan.of(batchValidationConfig),
+        CompiledValidationPlan.of(batchValidationConfig));
+  }
+
+  @Test
+  void failFastForEachWithBatchValidator() {
+    final var firedWith = new ArrayList<List<Bean>>();
+    final BatchValidator<Bean, ValidationFailure> batchValidator =
+        beans -> {
+          firedWith.add(beans);
+          return Map.of(0, VALIDATION_FAILURE_3);
+        };
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .withBatchValidator(batchValidator)
+            .prepare();
+    final var results =
+        VadorBatch.validateAndFailFastForEach(VALIDATABLE_BATCH, batchValidationConfig);
+
+    assertEquals(List.of(List.of(new Bean(2))), firedWith);
+    assertEquals(Either.left(VALIDATION_FAILURE_3), results.get(2));
+    assertThat(results.stream().limit(2)).containsOnly(Either.left(VALIDATION_FAILURE_1));
+    assertThat(results.stream().skip(3)).containsOnly(Either.left(VALIDATION_FAILURE_2));
+  }
+
+  @Test
+  void failFastForEachWithBatchValidatorReturningIndexOutOfBatch() {
+    final BatchValidator<Bean, ValidationFailure> batchValidator =
+        beans -> Map.of(beans.size(), VALIDATION_FAILURE_3);
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .withBatchValidator(batchValidator)
+            .prepare();
+
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VadorBatch.validateAndFailFastForEach(VALIDATABLE_BATCH, batchValidationConfig));
+    assertThat(exception).hasMessageContaining("index 1");
+    // Mapped like any exception from the batch validator, failing all members it's fired with.
+    final var results =
+        VadorBatch.validateAndFailFastForEach(
+            VALIDATABLE_BATCH,
+            batchValidationConfig,
+            NOTHING_TO_VALIDATE,
+            throwable -> UNKNOWN_EXCEPTION);
+    assertEquals(Either.left(UNKNOWN_EXCEPTION), results.get(2));
+    assertThat(results.stream().limit(2)).containsOnly(Either.left(VALIDATION_FAILURE_1));
+    assertThat(results.stream().skip(3)).containsOnly(Either.left(VALIDATION_FAILURE_2));
+  }
+
+  @Test
+  void failFastForEachToBatchResult() {
+    final var validatables =
+        io.vavr.collection.List.of(
+                new Bean(0), new Bean(1), null, new Bean(3), new Bean(3), new Bean(4))
+            .toJavaList();
+    final BatchValidator<Bean, ValidationFailure> batchValidator =
+        beans ->
+            IntStream.range(0, beans.size())
+                .filter(index -> beans.get(index).getId() == 4)
+                .boxed()
+                .collect(Collectors.toMap(Function.identity(), ignore -> VALIDATION_FAILURE_3));
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .findAndFilterDuplicatesConfig(
+                FilterDuplicatesConfig.<Bean, ValidationFailure>toValidate()
+                    .findAndFilterDuplicatesWith(Bean::getId))
+            .withValidatorEtr(
+                bean -> bean.filterOrElse(b -> b.getId() != 1, b -> VALIDATION_FAILURE_1))
+            .withBatchValidator(batchValidator)
+            .prepare();
+    final var result =
+        VadorBatch.validateAndFailFastForEachToBatchResult(
+            validatables, batchValidationConfig, NOTHING_TO_VALIDATE);
+
+    // Duplicates of Bean 3 are filtered out, same as with `Either`s.
+    assertEquals(
+        VadorBatch.validateAndFailFastForEach(
+            validatables, batchValidationConfig, NOTHING_TO_VALIDATE),
+        result.asEithers());
+    assertEquals(4, result.getSize());
+    assertEquals(1, result.getValidCount());
+    assertEquals(List.of(1, 2, 3), result.invalidIndices().boxed().collect(Collectors.toList()));
+    assertEquals(new Bean(4), result.validatableAt(3));
+    assertEquals(VALIDATION_FAILURE_3, result.failureAt(3));
+    assertThrows(IllegalArgumentException.class, () -> result.failureAt(0));
+  }
+
+  @Test
+  void failFastForEachWithCallbacksPushesEachResultOnceValidated() {
+    final var events = new ArrayList<String>();
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(
+                bean -> {
+                  events.add("validate " + bean.getId());
+                  return bean.getId() != 1 ? NONE : VALIDATION_FAILURE_1;
+                },
+                NONE)
+            .prepare();
+    VadorBatch.validateAndFailFastForEachWithCallbacks(
+        VALIDATABLE_BATCH.subList(0, 3),
+        batchValidationConfig,
+        (index, bean) -> events.add("valid " + index),
+        (index, bean, failure) -> events.add("invalid " + index + " " + failure));
+
+    assertEquals(
+        List.of(
+            "validate 0",
+            "valid 0",
+            "validate 1",
+            "invalid 1 " + VALIDATION_FAILURE_1,
+            "validate 2",
+            "valid 2"),
+        events);
+  }
+
+  @Test
+  void failFastForEachWithCallbacksAndBatchValidator() {
+    final var validatables =
+        io.vavr.collection.List.of(
+                new Bean(0), new Bean(1), null, new Bean(3), new Bean(3), new Bean(4))
+            .toJavaList();
+    final BatchValidator<Bean, ValidationFailure> batchValidator =
+        beans ->
+            beans.get(beans.size() - 1).getId() == 4
+                ? Map.of(beans.size() - 1, VALIDATION_FAILURE_3)
+                : Map.of();
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .findAndFilterDuplicatesConfig(
+                FilterDuplicatesConfig.<Bean, ValidationFailure>toValidate()
+                    .findAndFilterDuplicatesWith(Bean::getId))
+            .withValidatorEtr(
+                bean -> bean.filterOrElse(b -> b.getId() != 1, b -> VALIDATION_FAILURE_1))
+            .withBatchValidator(batchValidator)
+            .prepare();
+    final var valids = new ArrayList<Integer>();
+    final var invalids = new ArrayList<Tuple2<Integer, ValidationFailure>>();
+    VadorBatch.validateAndFailFastForEachWithCallbacks(
+        validatables,
+        batchValidationConfig,
+        (index, bean) -> valids.add(index),
+        (index, bean, failure) -> invalids.add(Tuple.of(index, failure)),
+        NOTHING_TO_VALIDATE);
+
+    // Indices are of `validatables`, and duplicates of Bean 3 are filtered out.
+    assertEquals(List.of(0), valids);
+    assertEquals(
+        List.of(
+            Tuple.of(1, VALIDATION_FAILURE_1),
+            Tuple.of(2, NOTHING_TO_VALIDATE),
+            Tuple.of(5, VALIDATION_FAILURE_3)),
+        invalids);
+  }
+
+  @Test
+  void failFastForEachWithAdaptiveOrderingFiresOftenFailingValidatorsFirst() {
+    final var neverFailingCount = new AtomicInteger();
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(countingNeverFailing(neverFailingCount), NONE)
+            .withValidator(bean -> VALIDATION_FAILURE_1, NONE)
+            .withAdaptiveOrdering(true)
+            .prepare();
+    final var validatables =
+        IntStream.range(0, 2048).mapToObj(Bean::new).collect(Collectors.toList());
+    VadorBatch.validateAndFailFastForEach(validatables, batchValidationConfig);
+    neverFailingCount.set(0);
+    final var results =
+        VadorBatch.validateAndFailFastForEach(validatables, batchValidationConfig);
+
+    assertEquals(0, neverFailingCount.get());
+    assertThat(results).containsOnly(Either.left(VALIDATION_FAILURE_1));
+  }
+
+  @Test
+  void failFastForEachWithAdaptiveOrderingKeepsPinnedValidators() {
+    final var neverFailingCount = new AtomicInteger();
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(countingNeverFailing(neverFailingCount), NONE)
+            .withValidator(bean -> VALIDATION_FAILURE_1, NONE)
+            .withAdaptiveOrdering(true)
+            .withPinnedValidatorId("withValidator[0]")
+            .prepare();
+    final var validatables =
+        IntStream.range(0, 2048).mapToObj(Bean::new).collect(Collectors.toList());
+    VadorBatch.validateAndFailFastForEach(validatables, batchValidationConfig);
+    neverFailingCount.set(0);
+    VadorBatch.validateAndFailFastForEach(validatables, batchValidationConfig);
+
+    assertEquals(validatables.size(), neverFailingCount.get());
+  }
+
+  private static Validator<Bean, ValidationFailure> countingNeverFailing(AtomicInteger count) {
+    return bean -> {
+      count.incrementAndGet();
+      return NONE;
+    };
+  }
+
+  @Test
+  void failFastForEachRunsGetterSharedBySpecsOncePerValidatable() {
+    final var batchValidationConfig =
+        BatchValidationConfig.<CountingBean, ValidationFailure>toValidate()
+            .withSpec(
+                spec ->
+                    spec._1()
+                        .orFailWith(VALIDATION_FAILURE_1)
+                        .given(CountingBean::getValue)
+                        .shouldMatch(anyOf(0, 1, 2)))
+            .withSpec(
+                spec ->
+                    spec._1()
+                        .orFailWith(VALIDATION_FAILURE_2)
+                        .given(CountingBean::getValue)
+                        .shouldMatch(anyOf(0, 1)))
+            .prepare();
+    final var beans =
+        IntStream.range(0, 3).mapToObj(CountingBean::new).collect(Collectors.toList());
+    final var results = VadorBatch.validateAndFailFastForEach(beans, batchValidationConfig);
+
+    assertEquals(Either.left(VALIDATION_FAILURE_2), results.get(2));
+    assertThat(beans).allSatisfy(bean -> assertEquals(1, bean.getReads().get()));
+  }
+
+  @Test
+  void failFastForAnyWithBatchValidatorReportsLowestIndex() {
+    final var firedWith = new ArrayList<List<Bean>>();
+    final BatchValidator<Bean, ValidationFailure> batchValidator =
+        beans -> {
+          firedWith.add(beans);
+          return IntStream.range(0, beans.size())
+              .filter(index -> beans.get(index).getId() >= 3)
+              .boxed()
+              .collect(Collectors.toMap(Function.identity(), ignore -> VALIDATION_FAILURE_3));
+        };
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtr(bean -> bean.filterOrElse(b -> b.getId() < 4, b -> UNKNOWN_EXCEPTION))
+            .withBatchValidator(batchValidator)
+            .prepare();
+
+    // Bean 4 fails the per-member validator, so the batch validator is fired only before it.
+    assertThat(
+            VadorBatch.validateAndFailFastForAny(
+                VALIDATABLE_BATCH, Bean::getId, batchValidationConfig))
+        .contains(Tuple.of(3, VALIDATION_FAILURE_3));
+    assertEquals(List.of(VALIDATABLE_BATCH.subList(0, 4)), firedWith);
+    assertThat(
+            VadorBatch.validateAndFailFastForAnyInParallel(
+                VALIDATABLE_BATCH, Bean::getId, batchValidationConfig))
+        .contains(Tuple.of(3, VALIDATION_FAILURE_3));
+  }
+
+  @Test
+  void failFastForEachReportsToListener() {
+    final var metrics = new ValidationMetrics();
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .withListener(metrics)
+            .prepare();
+    VadorBatch.validateAndFailFastForEach(VALIDATABLE_BATCH, batchValidationConfig);
+
+    final var planStats = metrics.planStats().get("FAIL_FAST_FOR_EACH");
+    assertEquals(1, planStats.getRunCount());
+    assertEquals(VALIDATABLE_BATCH.size(), planStats.getValidatableCount());
+    assertEquals(4, planStats.getFailureCount());
+    final var validatorStats = metrics.validatorStats();
+    assertEquals(5, validatorStats.get("withValidatorEtrs[0]").getInvocationCount());
+    assertEquals(0, validatorStats.get("withValidatorEtrs[0]").getFailureCount());
+    assertEquals(5, validatorStats.get("withValidatorEtrs[1]").getInvocationCount());
+    assertEquals(2, validatorStats.get("withValidatorEtrs[1]").getFailureCount());
+    // Members failed by the 2nd validator never reach the 3rd.
+    assertEquals(3, validatorStats.get("withValidatorEtrs[2]").getInvocationCount());
+    assertEquals(2, validatorStats.get("withValidatorEtrs[2]").getFailureCount());
+  }
+
+  @Test
+  void failFastForEachEmitsJfrEvents() throws IOException {
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .prepare();
+    final List<RecordedEvent> events;
+    try (var recording = new Recording()) {
+      recording.enable(BatchValidationEvent.NAME);
+      recording.enable(ValidatorInvocationEvent.NAME);
+      recording.start();
+      VadorBatch.validateAndFailFastForEach(VALIDATABLE_BATCH, batchValidationConfig);
+      recording.stop();
+      final var recordingFile = Files.createTempFile("vador", ".jfr");
+      recording.dump(recordingFile);
+      events = RecordingFile.readAllEvents(recordingFile);
+      Files.delete(recordingFile);
+    }
+
+    final var batchEvents =
+        events.stream()
+            .filter(event -> event.getEventType().getName().equals(BatchValidationEvent.NAME))
+            .collect(Collectors.toList());
+    assertEquals(1, batchEvents.size());
+    assertEquals("FAIL_FAST_FOR_EACH", batchEvents.get(0).getString("executionStrategy"));
+    assertEquals(VALIDATABLE_BATCH.size(), batchEvents.get(0).getInt("batchSize"));
+    assertEquals(4, batchEvents.get(0).getInt("failureCount"));
+    assertEquals(
+        13,
+        events.stream()
+            .filter(event -> event.getEventType().getName().equals(ValidatorInvocationEvent.NAME))
+            .count());
+  }
+
+  @Test
+  void failFastForEachInParallelKeepsOrder() {
+    final var validatables =
+        IntStream.range(0, 10_000).mapToObj(Bean::new).collect(Collectors.toList());
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .prepare();
+    assertEquals(
+        VadorBatch.validateAndFailFastForEach(validatables, batchValidationConfig),
+        VadorBatch.validateAndFailFastForEachInParallel(validatables, batchValidationConfig));
+  }
+
+  @Test
+  void failFastForAnyInParallelReportsLowestIndexFailure() {
+    final var validatables =
+        IntStream.range(0, 10_000).mapToObj(Bean::new).collect(Collectors.toList());
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(bean -> bean.getId() < 9_000 ? NONE : VALIDATION_FAILURE_2, NONE)
+            .withValidator(bean -> bean.getId() != 7_000 ? NONE : VALIDATION_FAILURE_1, NONE)
+            .prepare();
+    assertThat(
+            VadorBatch.validateAndFailFastForAnyInParallel(validatables, batchValidationConfig))
+        .contains(VALIDATION_FAILURE_1);
+    assertThat(
+            VadorBatch.validateAndFailFastForAnyInParallel(
+                validatables, Bean::getId, batchValidationConfig))
+        .contains(Tuple.of(7_000, VALIDATION_FAILURE_1));
+  }
+
+  @Test
+  void failFastForEachConcurrentlyKeepsOrderWithinCap() {
+    final var validatables =
+        IntStream.range(0, 200).mapToObj(Bean::new).collect(Collectors.toList());
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    final ValidatorEtr<Bean, ValidationFailure> blockingValidatorEtr =
+        bean -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(1);
+          } finally {
+            running.decrementAndGet();
+          }
+          return bean;
+        };
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidatorEtr(blockingValidatorEtr)
+            .withValidatorEtrs(VALIDATOR_ETRS)
+            .prepare();
+    assertEquals(
+        VadorBatch.validateAndFailFastForEach(validatables, batchValidationConfig),
+        VadorBatch.validateAndFailFastForEachConcurrently(validatables, batchValidationConfig, 8));
+    assertTrue(maxRunning.get() <= 8);
+  }
+
+  @Test
+  void failFastForAnyConcurrentlyReportsLowestIndexFailure() {
+    final var validatables =
+        IntStream.range(0, 1_000).mapToObj(Bean::new).collect(Collectors.toList());
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(bean -> bean.getId() < 900 ? NONE : VALIDATION_FAILURE_2, NONE)
+            .withValidator(bean -> bean.getId() != 700 ? NONE : VALIDATION_FAILURE_1, NONE)
+            .prepare();
+    assertThat(
+            VadorBatch.validateAndFailFastForAnyConcurrently(
+                validatables, Bean::getId, batchValidationConfig))
+        .contains(Tuple.of(700, VALIDATION_FAILURE_1));
+  }
+
+  @Test
+  void failFastForAnyConcurrentlyStopsSubmittingAfterFailure() {
+    final var validatables =
+        IntStream.range(0, 1_000).mapToObj(Bean::new).collect(Collectors.toList());
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(bean -> bean.getId() != 1 ? NONE : VALIDATION_FAILURE_1, NONE)
+            .prepare();
+    final var submitted = new AtomicInteger();
+    final Executor countingExecutor =
+        task -> {
+          submitted.incrementAndGet();
+          CompletableFuture.runAsync(task);
+        };
+    assertThat(
+            VadorBatch.validateAndFailFastForAnyConcurrently(
+                validatables, batchValidationConfig, 2, countingExecutor))
+        .contains(VALIDATION_FAILURE_1);
+    assertThat(submitted.get()).isLessThan(10);
+  }
+
   @Test
   void handleNullValidatablesByDefault() {
     // * NOTE 01/10/21 gopala.akshintala: Using vavr list as `java.util.List.of()` doesn't allow
@@ -250,6 +695,17 @@ class VadorBatchTest {
     assertEquals(result.get(0).get(3), Either.left(VALIDATION_FAILURE_3));
   }
 
+  @Value
+  private static class CountingBean {
+    int value;
+    AtomicInteger reads = new AtomicInteger();
+
+    public int getValue() {
+      reads.incrementAndGet();
+      return value;
+    }
+  }
+
   @Value
   private static class Bean {
     int id;
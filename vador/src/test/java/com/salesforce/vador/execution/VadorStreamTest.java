@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ ******************************************************************************/
+
+package com.salesforce.vador.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static sample.consumer.failure.ValidationFailure.DUPLICATE_ITEM;
+import static sample.consumer.failure.ValidationFailure.NONE;
+import static sample.consumer.failure.ValidationFailure.NOTHING_TO_VALIDATE;
+import static sample.consumer.failure.ValidationFailure.VALIDATION_FAILURE_1;
+
+import com.salesforce.vador.config.BatchValidationConfig;
+import com.salesforce.vador.config.FilterDuplicatesConfig;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import sample.consumer.failure.ValidationFailure;
+
+class VadorStreamTest {
+
+  private static final BatchValidationConfig<Bean, ValidationFailure> BATCH_VALIDATION_CONFIG =
+      BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+          .findAndFilterDuplicatesConfig(
+              FilterDuplicatesConfig.<Bean, ValidationFailure>toValidate()
+                  .findAndFilterDuplicatesWith(Bean::getId)
+                  .andFailDuplicatesWith(DUPLICATE_ITEM))
+          .withValidator(bean -> bean.getId() != 2 ? NONE : VALIDATION_FAILURE_1, NONE)
+          .prepare();
+
+  @Test
+  void failFastForEachOnStreamFailsDuplicatesOfKeysSeen() {
+    final var results =
+        VadorStream.validateAndFailFastForEach(
+                Stream.of(new Bean(1), new Bean(2), new Bean(1), null, new Bean(3)),
+                BATCH_VALIDATION_CONFIG,
+                NOTHING_TO_VALIDATE)
+            .collect(Collectors.toList());
+
+    assertEquals(
+        List.of(
+            Either.right(new Bean(1)),
+            Either.left(VALIDATION_FAILURE_1),
+            Either.left(DUPLICATE_ITEM),
+            Either.left(NOTHING_TO_VALIDATE),
+            Either.right(new Bean(3))),
+        results);
+  }
+
+  @Test
+  void failFastForEachOnStreamIsLazy() {
+    final var results =
+        VadorStream.validateAndFailFastForEach(
+                Stream.iterate(0, id -> id + 1).map(Bean::new), BATCH_VALIDATION_CONFIG)
+            .limit(3)
+            .collect(Collectors.toList());
+
+    assertEquals(
+        List.of(
+            Either.right(new Bean(0)),
+            Either.right(new Bean(1)),
+            Either.left(VALIDATION_FAILURE_1)),
+        results);
+  }
+
+  @Test
+  void failFastForEachOnStreamRejectsBatchValidators() {
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withBatchValidator(beans -> Map.of())
+            .prepare();
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            VadorStream.validateAndFailFastForEach(Stream.of(new Bean(1)), batchValidationConfig));
+  }
+
+  @Test
+  void failFastForEachOnPublisher() {
+    final var subscriber = new CollectingSubscriber<Either<ValidationFailure, Bean>>();
+    VadorStream.validateAndFailFastForEach(
+            publisherOf(Stream.of(new Bean(1), new Bean(2), new Bean(1), null, new Bean(3))),
+            BATCH_VALIDATION_CONFIG,
+            1,
+            Runnable::run,
+            NOTHING_TO_VALIDATE)
+        .subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(
+        List.of(
+            Either.right(new Bean(1)),
+            Either.left(VALIDATION_FAILURE_1),
+            Either.left(DUPLICATE_ITEM),
+            Either.left(NOTHING_TO_VALIDATE),
+            Either.right(new Bean(3))),
+        subscriber.completion.join());
+  }
+
+  @Test
+  void failFastForEachOnPublisherRequestsOnlyUpToMaxConcurrencyAhead() {
+    final var published = new AtomicInteger();
+    final var subscriber = new CollectingSubscriber<Either<ValidationFailure, Bean>>();
+    VadorStream.validateAndFailFastForEach(
+            publisherOf(
+                Stream.iterate(0, id -> id + 1)
+                    .peek(id -> published.incrementAndGet())
+                    .map(Bean::new)),
+            BATCH_VALIDATION_CONFIG,
+            4)
+        .subscribe(subscriber);
+    subscriber.subscription.request(3);
+
+    assertEquals(3, subscriber.results.size());
+    assertTrue(published.get() <= 3 + 4);
+    subscriber.subscription.cancel();
+  }
+
+  @Test
+  void failFastForEachOnPublisherInParallelKeepsOrder() {
+    final var validatables =
+        IntStream.range(0, 1_000).mapToObj(Bean::new).collect(Collectors.toList());
+    final var subscriber = new CollectingSubscriber<Either<ValidationFailure, Bean>>();
+    VadorStream.validateAndFailFastForEach(
+            publisherOf(validatables.stream()),
+            BATCH_VALIDATION_CONFIG,
+            8,
+            ForkJoinPool.commonPool())
+        .subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(
+        VadorBatch.validateAndFailFastForEach(validatables, BATCH_VALIDATION_CONFIG),
+        subscriber.completion.join());
+  }
+
+  /** Publishes the `items` as requested, on the thread requesting them. */
+  private static <T> Flow.Publisher<T> publisherOf(Stream<T> items) {
+    final var iterator = items.iterator();
+    return subscriber ->
+        subscriber.onSubscribe(
+            new Flow.Subscription() {
+              private boolean done;
+
+              @Override
+              public synchronized void request(long n) {
+                for (long i = 0; i < n && !done; i++) {
+                  if (!iterator.hasNext()) {
+                    done = true;
+                    subscriber.onComplete();
+                    return;
+                  }
+                  subscriber.onNext(iterator.next());
+                }
+              }
+
+              @Override
+              public synchronized void cancel() {
+                done = true;
+              }
+            });
+  }
+
+  private static class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+    private final List<T> results = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<List<T>> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      results.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      completion.complete(results);
+    }
+  }
+
+  @Value
+  private static class Bean {
+    int id;
+  }
+}
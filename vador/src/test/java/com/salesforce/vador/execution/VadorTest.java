@@ -19,6 +19,7 @@ import com.salesforce.vador.types.Validator;
 import com.salesforce.vador.types.ValidatorEtr;
 import io.vavr.Tuple;
 import io.vavr.control.Either;
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.List;
 import lombok.Value;
@@ -144,6 +145,28 @@ class VadorTest {
     assertThat(result.get().getExceptionMsg()).isEqualTo(expMsg);
   }
 
+  @Test
+  void configIsCollectedAfterValidation() throws InterruptedException {
+    final var configRef = validateWithConfigPerRequest();
+    for (int attempt = 0; attempt < 50 && configRef.get() != null; attempt++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    assertThat(configRef.get()).isNull();
+  }
+
+  private static WeakReference<ValidationConfig<Bean, ValidationFailure>>
+      validateWithConfigPerRequest() {
+    final var validationConfig =
+        ValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withValidator(bean -> NONE, NONE)
+            .withValidator(bean -> UNKNOWN_EXCEPTION, NONE)
+            .prepare();
+    final var result = Vador.validateAndFailFast(VALIDATABLE, validationConfig);
+    assertThat(result).contains(UNKNOWN_EXCEPTION);
+    return new WeakReference<>(validationConfig);
+  }
+
   @Value
   private static class Bean {
     int id;
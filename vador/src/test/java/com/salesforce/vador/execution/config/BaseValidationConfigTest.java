@@ -18,10 +18,14 @@ import static sample.consumer.failure.ValidationFailure.REQUIRED_FIELD_MISSING_2
 import static sample.consumer.failure.ValidationFailure.REQUIRED_LIST_MISSING;
 import static sample.consumer.failure.ValidationFailure.getFailureWithParams;
 
+import com.salesforce.vador.config.BatchValidationConfig;
 import com.salesforce.vador.config.FieldConfig;
 import com.salesforce.vador.config.ValidationConfig;
+import com.salesforce.vador.execution.VadorBatch;
 import com.salesforce.vador.types.Specs;
 import io.vavr.Tuple;
+import io.vavr.control.Either;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -113,6 +117,33 @@ class BaseValidationConfigTest {
     assertThat(result).contains(REQUIRED_FIELD_MISSING);
   }
 
+  @Test
+  void failFastForEachWithRequiredFieldMissingFailWithFnNamesEveryFailure() {
+    final var fieldNames = new ArrayList<String>();
+    final var batchValidationConfig =
+        BatchValidationConfig.<Bean1, ValidationFailure>toValidate()
+            .shouldHaveFieldOrFailWithFn(
+                Bean1::getStr,
+                (fieldName, value) -> {
+                  fieldNames.add(fieldName);
+                  return REQUIRED_FIELD_MISSING;
+                })
+            .prepare();
+    final var beans =
+        List.of(
+            new Bean1(Optional.empty()),
+            new Bean1(Optional.of("str")),
+            new Bean1(Optional.empty()));
+    final var results = VadorBatch.validateAndFailFastForEach(beans, batchValidationConfig);
+
+    assertThat(results)
+        .containsExactly(
+            Either.left(REQUIRED_FIELD_MISSING),
+            Either.right(beans.get(1)),
+            Either.left(REQUIRED_FIELD_MISSING));
+    assertThat(fieldNames).containsExactly(Bean1.Fields.str, Bean1.Fields.str);
+  }
+
   @Test
   void getSpecWithNameWithDuplicateNames() {
     val duplicateSpecName = "DuplicateSpecName";
@@ -19,6 +19,7 @@ import static sample.consumer.failure.ValidationFailure.getFailureWithParams;
 
 import com.salesforce.vador.config.BatchValidationConfig;
 import com.salesforce.vador.config.IDConfig;
+import com.salesforce.vador.config.SFIds;
 import com.salesforce.vador.config.ValidationConfig;
 import com.salesforce.vador.execution.Vador;
 import com.salesforce.vador.execution.VadorBatch;
@@ -125,6 +126,60 @@ class IDConfigTest {
     assertThat(result.get().getValidationFailureMessage().getParams()).containsExactly(PRODUCT_ID);
   }
 
+  @Test
+  void idConfigWithSFIdWithKeyPrefix() {
+    final var config =
+        ValidationConfig.<BeanWithIdStrFields, ValidationFailure>toValidate()
+            .withIdConfig(
+                IDConfig.<String, BeanWithIdStrFields, ValidationFailure, String>toValidate()
+                    .withIdValidator(SFIds.isSFIdWithKeyPrefix())
+                    .shouldHaveValidSFIdFormatOrFailWith(
+                        Tuple.of(BeanWithIdStrFields::getAccountId, "001"), INVALID_UDD_ID)
+                    .absentOrHaveValidSFIdFormatOrFailWith(
+                        Tuple.of(BeanWithIdStrFields::getContactId, "003"),
+                        INVALID_OPTIONAL_UDD_ID))
+            .prepare();
+    assertThat(
+            Vador.validateAndFailFast(
+                new BeanWithIdStrFields(null, "001A0000006Vm9rIAC", null), config))
+        .isEmpty();
+    assertThat(
+            Vador.validateAndFailFast(
+                new BeanWithIdStrFields(null, "001a0000006vm9r", null), config))
+        .isEmpty();
+    assertThat(
+            Vador.validateAndFailFast(
+                new BeanWithIdStrFields(null, "003A0000006Vm9r", null), config))
+        .contains(INVALID_UDD_ID);
+    assertThat(
+            Vador.validateAndFailFast(
+                new BeanWithIdStrFields(null, "001A0000006Vm9rIAC", "003A0000006Vm9rAAC"), config))
+        .contains(INVALID_OPTIONAL_UDD_ID);
+  }
+
+  @Test
+  void sfIds() {
+    assertThat(SFIds.isValidSFId("001A0000006Vm9r")).isTrue();
+    assertThat(SFIds.isValidSFId("001A0000006Vm9rIAC")).isTrue();
+    assertThat(SFIds.isValidSFId("001A0000006Vm9riac")).isTrue();
+    assertThat(SFIds.isValidSFId("001A0000006VM9RIAC")).isTrue();
+    assertThat(SFIds.isValidSFId("001A0000006Vm9rAAC")).isFalse();
+    assertThat(SFIds.isValidSFId("001A0000006Vm9rIA9")).isFalse();
+    assertThat(SFIds.isValidSFId("001A0000006Vm9")).isFalse();
+    assertThat(SFIds.isValidSFId("001A0000006Vm9-")).isFalse();
+    assertThat(SFIds.isValidSFId(null)).isFalse();
+
+    assertThat(SFIds.toSFId18("001A0000006Vm9r")).isEqualTo("001A0000006Vm9rIAC");
+    assertThat(SFIds.toSFId18("001a0000006vm9riac")).isEqualTo("001A0000006Vm9rIAC");
+    final var sfId18 = "001A0000006Vm9rIAC";
+    assertThat(SFIds.toSFId18(sfId18)).isSameAs(sfId18);
+    assertThat(SFIds.toSFId18(INVALID_SF_ID)).isNull();
+
+    assertThat(SFIds.keyPrefixCodeOf("001A0000006Vm9r")).isEqualTo(SFIds.keyPrefixCodeOf("001"));
+    assertThat(SFIds.keyPrefixCodeOf("003A0000006Vm9r")).isNotEqualTo(SFIds.keyPrefixCodeOf("001"));
+    assertThat(SFIds.keyPrefixCodeOf("0-1")).isEqualTo(-1);
+  }
+
   @Test
   void idConfigWithStrIds() {
     final var config =
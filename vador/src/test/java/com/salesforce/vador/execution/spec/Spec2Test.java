@@ -11,6 +11,7 @@ import static com.salesforce.vador.matchers.AnyMatchers.anyOf;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static sample.consumer.failure.ValidationFailure.INVALID_COMBO_1;
 import static sample.consumer.failure.ValidationFailure.INVALID_COMBO_2;
@@ -19,13 +20,20 @@ import static sample.consumer.failure.ValidationFailureMessage.MSG_WITH_PARAMS;
 
 import com.salesforce.vador.config.ValidationConfig;
 import com.salesforce.vador.execution.Vador;
+import com.salesforce.vador.specs.specs.ValueMatcher;
 import com.salesforce.vador.types.Spec;
 import com.salesforce.vador.types.Specs;
 import io.vavr.collection.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.Value;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -117,6 +125,32 @@ class Spec2Test {
             .orElse(true));
   }
 
+  @DisplayName("shouldRelateWith with many related values, checked for a null value")
+  @Test
+  void spec2TestWithManyRelatedValues() {
+    final var relatedValues =
+        IntStream.range(0, 1000).mapToObj(String::valueOf).collect(Collectors.toUnmodifiableSet());
+    final var validationConfig =
+        ValidationConfig.<Bean, ValidationFailure>toValidate()
+            .withSpec(
+                spec ->
+                    spec._2()
+                        .when(Bean::getValue)
+                        .then(Bean::getValueStr)
+                        .shouldRelateWith(Map.of(1, relatedValues))
+                        .orFailWith(INVALID_COMBO_1))
+            .prepare();
+
+    assertThat(Vador.validateAndFailFast(new Bean(1, "999", null, null), validationConfig))
+        .isEmpty();
+    assertThat(Vador.validateAndFailFast(new Bean(1, "1000", null, null), validationConfig))
+        .contains(INVALID_COMBO_1);
+    assertThat(Vador.validateAndFailFast(new Bean(1, null, null, null), validationConfig))
+        .contains(INVALID_COMBO_1);
+    assertThat(Vador.validateAndFailFast(new Bean(2, "1", null, null), validationConfig))
+        .contains(INVALID_COMBO_1);
+  }
+
   @DisplayName("More than one Spec 2")
   @Test
   void multiSpec2Test() {
@@ -155,6 +189,180 @@ class Spec2Test {
     assertThat(noneResult2).isEmpty();
   }
 
+  @DisplayName("Spec 2s on the same `when` run their matchers once per `when` value")
+  @Test
+  void multiSpec2OnSameWhenTest() {
+    final var matcherRuns = new AtomicInteger();
+    final Specs<Bean2, ValidationFailure> specs =
+        spec ->
+            List.of(
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(countingOnValue(is(BillingTerm.OneTime), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(notNullValue())
+                    .orFailWith(INVALID_COMBO_1),
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(countingOnValue(is(BillingTerm.OneTime), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(is("one-time"))
+                    .orFailWith(INVALID_COMBO_1),
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(countingOnValue(is(BillingTerm.Month), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(notNullValue())
+                    .orFailWith(INVALID_COMBO_2),
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(countingOnValue(is(BillingTerm.Month), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(is("month"))
+                    .orFailWith(INVALID_COMBO_2));
+    final var validationConfig =
+        ValidationConfig.<Bean2, ValidationFailure>toValidate().specify(specs).prepare();
+
+    for (var index = 0; index < 100; index++) {
+      final var validBean =
+          index % 2 == 0
+              ? new Bean2(BillingTerm.OneTime, "one-time")
+              : new Bean2(BillingTerm.Month, "month");
+      assertThat(Vador.validateAndFailFast(validBean, validationConfig)).isEmpty();
+    }
+    assertThat(matcherRuns).hasValue(8);
+
+    final var invalidBean = new Bean2(BillingTerm.Month, "one-time");
+    assertThat(Vador.validateAndFailFast(invalidBean, validationConfig)).contains(INVALID_COMBO_2);
+    final var nullBean = new Bean2(BillingTerm.OneTime, null);
+    assertThat(Vador.validateAndFailFast(nullBean, validationConfig)).contains(INVALID_COMBO_1);
+  }
+
+  @Test
+  void multiSpec2OnSameWhenWithOtherMatchersTest() {
+    final var matcherRuns = new AtomicInteger();
+    final Specs<Bean2, ValidationFailure> specs =
+        spec ->
+            List.of(
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(counting(is(BillingTerm.OneTime), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(notNullValue())
+                    .orFailWith(INVALID_COMBO_1),
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(counting(is(BillingTerm.OneTime), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(is("one-time"))
+                    .orFailWith(INVALID_COMBO_1),
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(counting(is(BillingTerm.Month), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(notNullValue())
+                    .orFailWith(INVALID_COMBO_2),
+                spec.<BillingTerm, String>_2()
+                    .when(Bean2::getBt)
+                    .matches(counting(is(BillingTerm.Month), matcherRuns))
+                    .then(Bean2::getValueStr)
+                    .shouldMatch(is("month"))
+                    .orFailWith(INVALID_COMBO_2));
+    final var validationConfig =
+        ValidationConfig.<Bean2, ValidationFailure>toValidate().specify(specs).prepare();
+
+    for (var index = 0; index < 100; index++) {
+      final var validBean = new Bean2(BillingTerm.Month, "month");
+      assertThat(Vador.validateAndFailFast(validBean, validationConfig)).isEmpty();
+    }
+    // Matchers not known to match on the value alone run for every spec and validatable.
+    assertThat(matcherRuns).hasValue(400);
+  }
+
+  @Test
+  void multiSpec2OnSameWhenWithManyValuesTest() {
+    final var matcherRuns = new AtomicInteger();
+    final Specs<Bean2, ValidationFailure> specs =
+        spec ->
+            List.of(
+                spec.<String, BillingTerm>_2()
+                    .when(Bean2::getValueStr)
+                    .matches(countingOnValue(is("one-time"), matcherRuns))
+                    .then(Bean2::getBt)
+                    .shouldMatch(is(BillingTerm.OneTime))
+                    .orFailWith(INVALID_COMBO_1),
+                spec.<String, BillingTerm>_2()
+                    .when(Bean2::getValueStr)
+                    .matches(countingOnValue(is("month"), matcherRuns))
+                    .then(Bean2::getBt)
+                    .shouldMatch(is(BillingTerm.Month))
+                    .orFailWith(INVALID_COMBO_2),
+                spec.<String, BillingTerm>_2()
+                    .when(Bean2::getValueStr)
+                    .matches(countingOnValue(is("one-time"), matcherRuns))
+                    .then(Bean2::getBt)
+                    .shouldMatch(notNullValue())
+                    .orFailWith(INVALID_COMBO_1),
+                spec.<String, BillingTerm>_2()
+                    .when(Bean2::getValueStr)
+                    .matches(countingOnValue(is("month"), matcherRuns))
+                    .then(Bean2::getBt)
+                    .shouldMatch(notNullValue())
+                    .orFailWith(INVALID_COMBO_2));
+    final var validationConfig =
+        ValidationConfig.<Bean2, ValidationFailure>toValidate().specify(specs).prepare();
+
+    for (var index = 0; index < 2000; index++) {
+      final var validBean = new Bean2(BillingTerm.OneTime, "value" + index);
+      assertThat(Vador.validateAndFailFast(validBean, validationConfig)).isEmpty();
+    }
+    // Each distinct value is matched once per spec, whether or not it can still be cached.
+    assertThat(matcherRuns).hasValue(8000);
+  }
+
+  private static <T> Matcher<T> counting(Matcher<T> matcher, AtomicInteger runs) {
+    return new CountingMatcher<>(matcher, runs);
+  }
+
+  private static <T> Matcher<T> countingOnValue(Matcher<T> matcher, AtomicInteger runs) {
+    return new CountingValueMatcher<>(matcher, runs);
+  }
+
+  private static class CountingMatcher<T> extends BaseMatcher<T> {
+    private final Matcher<T> matcher;
+    private final AtomicInteger runs;
+
+    CountingMatcher(Matcher<T> matcher, AtomicInteger runs) {
+      this.matcher = matcher;
+      this.runs = runs;
+    }
+
+    @Override
+    public boolean matches(Object actual) {
+      runs.incrementAndGet();
+      return matcher.matches(actual);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+      matcher.describeTo(description);
+    }
+  }
+
+  private static class CountingValueMatcher<T> extends CountingMatcher<T> implements ValueMatcher {
+    CountingValueMatcher(Matcher<T> matcher, AtomicInteger runs) {
+      super(matcher, runs);
+    }
+  }
+
+
+      @Override
+      public void describeTo(Description description) {
+        matcher.describeTo(description);
+      }
+    };
+  }
+
   @DisplayName("shouldRelateWith OR ShouldRelateWithFn")
   @Test
   void spec2Test2() {